@@ -0,0 +1,98 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.blockartistry.mod.DynSurround.data.ConditionRegistry;
+import org.blockartistry.mod.DynSurround.data.config.BiomeConfig;
+import org.blockartistry.mod.DynSurround.data.config.SoundConfig;
+
+/*
+ * Shared fixtures for the benchmarks. Sound definitions come from the
+ * shipped biome config so the condition expressions are the real ones;
+ * nothing here needs a running Minecraft.
+ */
+public final class BenchmarkData {
+
+	// Condition states a player would typically cycle through
+	public static final String[][][] STATES = {
+			{ { "day", "Overworld", "noseason" }, { "tcmedium" } },
+			{ { "day", "Overworld", "raining", "noseason" }, { "humid", "tcmedium" } },
+			{ { "night", "Overworld", "noseason" }, { "sprinting", "inside", "tcwarm" } },
+			{ { "night", "Overworld", "raining", "noseason" }, { "hurt", "hungry", "freezing", "tccold" } },
+			{ { "day", "Nether", "noseason" }, { "dry", "tcwarm" } } };
+
+	private BenchmarkData() {
+
+	}
+
+	public static final class State {
+		public final String conditions;
+		public final long mask;
+
+		public State(final String conditions, final long mask) {
+			this.conditions = conditions;
+			this.mask = mask;
+		}
+	}
+
+	/*
+	 * Builds the condition strings and masks the same way EnvironState does.
+	 * Call after the sounds have been compiled so that the masks pick up
+	 * the vocabulary.
+	 */
+	public static State[] states() {
+		final State[] result = new State[STATES.length];
+		final ConditionRegistry.Builder builder = new ConditionRegistry.Builder();
+		for (int i = 0; i < STATES.length; i++) {
+			builder.reset();
+			for (final String[] group : STATES[i]) {
+				for (final String token : group)
+					builder.add(token);
+				builder.close();
+			}
+			result[i] = new State(builder.getConditions(), builder.getMask());
+		}
+		return result;
+	}
+
+	public static List<SoundConfig> soundConfigs(final boolean spot) {
+		final List<SoundConfig> result = new ArrayList<SoundConfig>();
+		try {
+			final BiomeConfig config = BiomeConfig.load(Module.MOD_ID);
+			for (final BiomeConfig.Entry entry : config.entries)
+				for (final SoundConfig sound : entry.sounds)
+					if (sound.sound != null && (spot == (sound.spotSound != null && sound.spotSound.booleanValue()
+							|| "spot".equalsIgnoreCase(sound.soundType))))
+						result.add(sound);
+		} catch (final Exception ex) {
+			throw new RuntimeException("Unable to load biome config", ex);
+		}
+		if (result.isEmpty())
+			throw new IllegalStateException("No sounds found in biome config");
+		return result;
+	}
+}
@@ -0,0 +1,97 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client.sound;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.blockartistry.mod.DynSurround.BenchmarkData;
+import org.blockartistry.mod.DynSurround.data.ConditionRegistry;
+import org.blockartistry.mod.DynSurround.data.config.SoundConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * SoundEffect.matches() against the Pattern based matching it replaced.
+ * Each invocation matches every biome sound against one condition state,
+ * which is what a biome sound lookup does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SoundEffectMatchBenchmark {
+
+	private SoundEffect[] effects;
+	private Pattern[] patterns;
+	private BenchmarkData.State[] states;
+	private int index;
+
+	@Setup
+	public void setup() {
+		final List<SoundConfig> configs = BenchmarkData.soundConfigs(false);
+		configs.addAll(BenchmarkData.soundConfigs(true));
+		this.effects = new SoundEffect[configs.size()];
+		this.patterns = new Pattern[configs.size()];
+		for (int i = 0; i < configs.size(); i++) {
+			this.effects[i] = new SoundEffect(configs.get(i));
+			this.patterns[i] = Pattern.compile(this.effects[i].conditions);
+		}
+		this.states = BenchmarkData.states();
+	}
+
+	private BenchmarkData.State nextState() {
+		final BenchmarkData.State state = this.states[this.index];
+		this.index = (this.index + 1) % this.states.length;
+		return state;
+	}
+
+	@Benchmark
+	public void compiled(final Blackhole bh) {
+		final BenchmarkData.State state = nextState();
+		// Regex fallbacks evaluate against the published string
+		ConditionRegistry.publish(state.conditions);
+		for (final SoundEffect effect : this.effects)
+			bh.consume(effect.matches(state.mask));
+	}
+
+	@Benchmark
+	public void pattern(final Blackhole bh) {
+		final BenchmarkData.State state = nextState();
+		for (final Pattern pattern : this.patterns)
+			bh.consume(pattern.matcher(state.conditions).matches());
+	}
+}
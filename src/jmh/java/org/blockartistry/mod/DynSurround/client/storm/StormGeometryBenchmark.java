@@ -0,0 +1,90 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client.storm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.blockartistry.mod.DynSurround.util.XorShiftRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Per frame animation of the retained storm geometry against a full rebuild
+ * of the same columns. Half the columns are rain, the rest snow.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StormGeometryBenchmark {
+
+	private static final int RANGE = 10;
+
+	private final StormGeometry geometry = new StormGeometry(RANGE);
+	private final XorShiftRandom random = new XorShiftRandom(0x1234L);
+	private int updateCount;
+
+	@Setup
+	public void setup() {
+		build();
+	}
+
+	private void build() {
+		this.geometry.begin(0, 64, 0, RANGE);
+		for (int z = -RANGE; z <= RANGE; z++)
+			for (int x = -RANGE; x <= RANGE; x++) {
+				if (((x + z) & 1) == 0)
+					this.geometry.addRain(x, z, 0.3D, -0.2D, 54, 74, 0xF000F0, x * 3121 + z * 13761,
+							3.0D + this.random.nextDouble());
+				else
+					this.geometry.addSnow(false, x, z, 0.3D, -0.2D, 54, 74, 0xF000F0, 0xFFFFFF, 0.01F,
+							this.random.nextDouble(), (float) this.random.nextGaussian(), this.random.nextDouble(),
+							(float) this.random.nextGaussian());
+			}
+		this.geometry.end();
+	}
+
+	@Benchmark
+	public int[] update() {
+		this.geometry.update(++this.updateCount, 0.5F, 0.25D, 0.75D, 1.0F);
+		return this.geometry.getVertexData(StormGeometry.RAIN);
+	}
+
+	@Benchmark
+	public int[] rebuild() {
+		build();
+		this.geometry.update(++this.updateCount, 0.5F, 0.25D, 0.75D, 1.0F);
+		return this.geometry.getVertexData(StormGeometry.RAIN);
+	}
+}
@@ -0,0 +1,100 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.blockartistry.mod.DynSurround.BenchmarkData;
+import org.blockartistry.mod.DynSurround.client.sound.SoundEffect;
+import org.blockartistry.mod.DynSurround.data.config.SoundConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * The sound filtering done by BiomeRegistry.getSounds(). BiomeGenBase can't
+ * be constructed without bootstrapping Minecraft so this calls the filter
+ * the registry uses, SoundSelector.findMatches(), with the shipped
+ * background sounds. The Pattern based matching it replaced is run for
+ * comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BiomeSoundsBenchmark {
+
+	private List<SoundEffect> sounds;
+	private Pattern[] patterns;
+	private BenchmarkData.State[] states;
+	private int index;
+
+	@Setup
+	public void setup() {
+		final List<SoundConfig> configs = BenchmarkData.soundConfigs(false);
+		this.sounds = new ArrayList<SoundEffect>(configs.size());
+		this.patterns = new Pattern[configs.size()];
+		for (int i = 0; i < configs.size(); i++) {
+			final SoundEffect sound = new SoundEffect(configs.get(i));
+			this.sounds.add(sound);
+			this.patterns[i] = Pattern.compile(sound.conditions);
+		}
+		this.states = BenchmarkData.states();
+	}
+
+	private BenchmarkData.State nextState() {
+		final BenchmarkData.State state = this.states[this.index];
+		this.index = (this.index + 1) % this.states.length;
+		return state;
+	}
+
+	@Benchmark
+	public List<SoundEffect> getSounds() {
+		final BenchmarkData.State state = nextState();
+		ConditionRegistry.publish(state.conditions);
+		return SoundSelector.findMatches(this.sounds, state.mask);
+	}
+
+	@Benchmark
+	public List<SoundEffect> getSoundsPattern() {
+		final String conditions = nextState().conditions;
+		final List<SoundEffect> results = new ArrayList<SoundEffect>();
+		for (int i = 0; i < this.patterns.length; i++)
+			if (this.patterns[i].matcher(conditions).matches())
+				results.add(this.sounds.get(i));
+		return results;
+	}
+}
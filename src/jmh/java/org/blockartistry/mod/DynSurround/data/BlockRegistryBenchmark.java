@@ -0,0 +1,114 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.blockartistry.mod.DynSurround.BenchmarkData;
+import org.blockartistry.mod.DynSurround.client.sound.SoundEffect;
+import org.blockartistry.mod.DynSurround.data.config.SoundConfig;
+import org.blockartistry.mod.DynSurround.util.XorShiftRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * BlockRegistry.Entry.getSound() against the candidate list selection it
+ * replaced. The entry is built from the biome spot sounds since they carry
+ * conditions and weights; a Block isn't needed to build an entry, only to
+ * index one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockRegistryBenchmark {
+
+	private final Random random = new XorShiftRandom(0x1234L);
+	private BlockRegistry.Entry entry;
+	private SoundEffect[] sounds;
+	private BenchmarkData.State[] states;
+	private int index;
+
+	@Setup
+	public void setup() {
+		final BlockRegistry.EntryBuilder builder = new BlockRegistry.EntryBuilder(null);
+		builder.chance = 1;
+		for (final SoundConfig config : BenchmarkData.soundConfigs(true))
+			builder.sounds.add(new SoundEffect(config));
+		this.entry = builder.build();
+		this.sounds = this.entry.sounds;
+		this.states = BenchmarkData.states();
+	}
+
+	private BenchmarkData.State nextState() {
+		final BenchmarkData.State state = this.states[this.index];
+		this.index = (this.index + 1) % this.states.length;
+		return state;
+	}
+
+	@Benchmark
+	public SoundEffect getSound() {
+		return this.entry.getSound(this.random, nextState().mask);
+	}
+
+	// Selection as it was done before the weight tables
+	@Benchmark
+	public SoundEffect candidateList() {
+		final long conditions = nextState().mask;
+		if (this.random.nextInt(1) != 0)
+			return null;
+		int totalWeight = 0;
+		final List<SoundEffect> candidates = new ArrayList<SoundEffect>();
+		for (final SoundEffect s : this.sounds)
+			if (s.matches(conditions)) {
+				candidates.add(s);
+				totalWeight += s.weight;
+			}
+		if (totalWeight <= 0)
+			return null;
+
+		if (candidates.size() == 1)
+			return candidates.get(0);
+
+		int targetWeight = this.random.nextInt(totalWeight);
+		int i = 0;
+		for (i = candidates.size(); (targetWeight -= candidates.get(i - 1).weight) >= 0; i--)
+			;
+
+		return candidates.get(i - 1);
+	}
+}
@@ -0,0 +1,98 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * The biome survey done by BiomeSurveyHandler. The world is replaced by a
+ * synthetic biome map; a walk step moves the player one block and either
+ * slides the window or resurveys it the way the handler used to.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ColumnHistogramBenchmark {
+
+	private static final int BIOMES = 256;
+
+	// Biome patches roughly the size of vanilla ones
+	private static final ColumnHistogram.ISampler SAMPLER = new ColumnHistogram.ISampler() {
+		@Override
+		public int sample(final int x, final int z) {
+			return ((x >> 6) * 31 + (z >> 6) * 17) & (BIOMES - 1);
+		}
+	};
+
+	@Param({ "6", "12", "24" })
+	public int range;
+
+	private ColumnHistogram histogram;
+	private int x;
+	private int z;
+	private int step;
+
+	@Setup
+	public void setup() {
+		this.histogram = new ColumnHistogram(this.range, BIOMES);
+		this.histogram.survey(SAMPLER, 0, 0);
+	}
+
+	// Walks a diagonal staircase so both axes get exercised
+	private void walk() {
+		if ((this.step++ & 1) == 0)
+			this.x++;
+		else
+			this.z--;
+	}
+
+	@Benchmark
+	public int slide() {
+		walk();
+		this.histogram.moveTo(SAMPLER, this.x, this.z);
+		return this.histogram.getCount(0);
+	}
+
+	@Benchmark
+	public int fullSurvey() {
+		walk();
+		this.histogram.survey(SAMPLER, this.x, this.z);
+		return this.histogram.getCount(0);
+	}
+}
@@ -0,0 +1,103 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * MathStuff lookup table trig against java.lang.Math.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MathStuffBenchmark {
+
+	private static final int COUNT = 1024;
+
+	private final float[] angles = new float[COUNT];
+	private final float[] xs = new float[COUNT];
+	private final float[] ys = new float[COUNT];
+	private int index;
+
+	@Setup
+	public void setup() {
+		final XorShiftRandom random = new XorShiftRandom(0x1234L);
+		for (int i = 0; i < COUNT; i++) {
+			this.angles[i] = (random.nextFloat() - 0.5F) * 4.0F * MathStuff.PI_F;
+			this.xs[i] = random.nextFloat() * 2.0F - 1.0F;
+			this.ys[i] = random.nextFloat() * 2.0F - 1.0F;
+		}
+	}
+
+	private int next() {
+		this.index = (this.index + 1) & (COUNT - 1);
+		return this.index;
+	}
+
+	@Benchmark
+	public float sin() {
+		return MathStuff.sin(this.angles[next()]);
+	}
+
+	@Benchmark
+	public double mathSin() {
+		return Math.sin(this.angles[next()]);
+	}
+
+	@Benchmark
+	public float cos() {
+		return MathStuff.cos(this.angles[next()]);
+	}
+
+	@Benchmark
+	public double mathCos() {
+		return Math.cos(this.angles[next()]);
+	}
+
+	@Benchmark
+	public float atan2() {
+		final int i = next();
+		return MathStuff.atan2(this.ys[i], this.xs[i]);
+	}
+
+	@Benchmark
+	public double mathAtan2() {
+		final int i = next();
+		return Math.atan2(this.ys[i], this.xs[i]);
+	}
+}
@@ -130,8 +130,16 @@ public final class ModOptions {
 	public static final String CONFIG_MAX_RAIN_STRENGTH = "Default Maximum Rain Strength";
 	public static final String CONFIG_FX_RANGE = "Special Effect Range";
 	public static final String CONFIG_FANCY_CLOUD_HANDLING = "Fancy Cloud Handling";
+	public static final String CONFIG_EFFECT_TICK_BUDGET = "Effect Tick Budget";
+	public static final String CONFIG_PARTICLE_BUDGET = "Particle Budget";
+	public static final String CONFIG_PARTICLE_TARGET_FPS = "Particle Budget Target FPS";
+	public static final String CONFIG_QUALITY_MIN_LEVEL = "Minimum Quality Level";
+	public static final String CONFIG_QUALITY_MAX_LEVEL = "Maximum Quality Level";
+	public static final String CONFIG_QUALITY_TARGET_FPS = "Quality Target FPS";
 	private static final List<String> generalSort = ImmutableList.<String> builder()
-			.add(CONFIG_FANCY_CLOUD_HANDLING, CONFIG_FX_RANGE, CONFIG_MIN_RAIN_STRENGTH, CONFIG_MAX_RAIN_STRENGTH)
+			.add(CONFIG_FANCY_CLOUD_HANDLING, CONFIG_FX_RANGE, CONFIG_MIN_RAIN_STRENGTH, CONFIG_MAX_RAIN_STRENGTH,
+					CONFIG_EFFECT_TICK_BUDGET, CONFIG_PARTICLE_BUDGET, CONFIG_PARTICLE_TARGET_FPS,
+					CONFIG_QUALITY_MIN_LEVEL, CONFIG_QUALITY_MAX_LEVEL, CONFIG_QUALITY_TARGET_FPS)
 			.build();
 
 	@Parameter(category = CATEGORY_GENERAL, property = CONFIG_MIN_RAIN_STRENGTH, defaultValue = "0.0")
@@ -150,6 +158,30 @@ public final class ModOptions {
 	@Comment("Adjust cloud graphics based on configured cloud height")
 	@RestartRequired
 	public static boolean enableFancyCloudHandling = true;
+	@Parameter(category = CATEGORY_GENERAL, property = CONFIG_EFFECT_TICK_BUDGET, defaultValue = "2000")
+	@MinMaxInt(min = 0, max = 50000)
+	@Comment("Microseconds per client tick for deferrable effect processing (0 for no limit)")
+	public static int effectTickBudget = 2000;
+	@Parameter(category = CATEGORY_GENERAL, property = CONFIG_PARTICLE_BUDGET, defaultValue = "300")
+	@MinMaxInt(min = 10, max = 10000)
+	@Comment("Maximum number of particles spawned by the mod per client tick")
+	public static int particleBudget = 300;
+	@Parameter(category = CATEGORY_GENERAL, property = CONFIG_PARTICLE_TARGET_FPS, defaultValue = "30")
+	@MinMaxInt(min = 0, max = 240)
+	@Comment("Frame rate below which the particle budget is cut back (0 to always use the full budget)")
+	public static int particleTargetFPS = 30;
+	@Parameter(category = CATEGORY_GENERAL, property = CONFIG_QUALITY_MIN_LEVEL, defaultValue = "0")
+	@MinMaxInt(min = 0, max = 4)
+	@Comment("Lowest level the weather and effect ranges may be stepped down to (0 is half range, 4 is full)")
+	public static int qualityMinLevel = 0;
+	@Parameter(category = CATEGORY_GENERAL, property = CONFIG_QUALITY_MAX_LEVEL, defaultValue = "4")
+	@MinMaxInt(min = 0, max = 4)
+	@Comment("Highest level the weather and effect ranges may be stepped up to (0 is half range, 4 is full)")
+	public static int qualityMaxLevel = 4;
+	@Parameter(category = CATEGORY_GENERAL, property = CONFIG_QUALITY_TARGET_FPS, defaultValue = "40")
+	@MinMaxInt(min = 0, max = 240)
+	@Comment("Frame rate below which weather and effect ranges are stepped down (0 to stay at the maximum level)")
+	public static int qualityTargetFPS = 40;
 
 	public static final String CATEGORY_AURORA = "aurora";
 	public static final String CONFIG_AURORA_ENABLED = "Enabled";
@@ -219,6 +251,9 @@ public final class ModOptions {
 	public static final String CONFIG_AUTO_CONFIG_CHANNELS = "Autoconfigure Channels";
 	public static final String CONFIG_NORMAL_CHANNEL_COUNT = "Number Normal Channels";
 	public static final String CONFIG_STREAMING_CHANNEL_COUNT = "Number Streaming Channels";
+	public static final String CONFIG_MAX_DELAYED_SOUNDS = "Max Delayed Sounds";
+	public static final String CONFIG_SOUND_CLUSTER_RADIUS = "Sound Cluster Radius";
+	public static final String CONFIG_SOUND_CLUSTER_WINDOW = "Sound Cluster Window";
 	public static final String CONFIG_ENABLE_JUMP_SOUND = "Jump Sound";
 	public static final String CONFIG_ENABLE_SWING_SOUND = "Swing Sound";
 	public static final String CONFIG_ENABLE_CRAFTING_SOUND = "Crafting Sound";
@@ -233,7 +268,8 @@ public final class ModOptions {
 			CONFIG_ENABLE_FOOTSTEPS_SOUND, CONFIG_FOOTSTEPS_SOUND_FACTOR, CONFIG_ENABLE_JUMP_SOUND,
 			CONFIG_ENABLE_SWING_SOUND, CONFIG_ENABLE_CRAFTING_SOUND, CONFIG_ENABLE_BOW_PULL_SOUND,
 			CONFIG_AUTO_CONFIG_CHANNELS, CONFIG_NORMAL_CHANNEL_COUNT, CONFIG_STREAMING_CHANNEL_COUNT,
-			CONFIG_BLOCKED_SOUNDS, CONFIG_SOUND_CULL_THRESHOLD, CONFIG_CULLED_SOUNDS, CONFIG_SOUND_VOLUMES);
+			CONFIG_MAX_DELAYED_SOUNDS, CONFIG_SOUND_CLUSTER_RADIUS, CONFIG_SOUND_CLUSTER_WINDOW, CONFIG_BLOCKED_SOUNDS,
+			CONFIG_SOUND_CULL_THRESHOLD, CONFIG_CULLED_SOUNDS, CONFIG_SOUND_VOLUMES);
 
 	@Parameter(category = CATEGORY_SOUND, property = CONFIG_ENABLE_BIOME_SOUNDS, defaultValue = "true")
 	@Comment("Enable biome background and spot sounds")
@@ -257,6 +293,18 @@ public final class ModOptions {
 	@Comment("Number of streaming sound channels to configure in the sound system (manual)")
 	@RestartRequired
 	public static int streamingSoundChannelCount = 4;
+	@Parameter(category = CATEGORY_SOUND, property = CONFIG_MAX_DELAYED_SOUNDS, defaultValue = "128")
+	@MinMaxInt(min = 0)
+	@Comment("Maximum number of delayed sounds waiting to be played")
+	public static int maxDelayedSounds = 128;
+	@Parameter(category = CATEGORY_SOUND, property = CONFIG_SOUND_CLUSTER_RADIUS, defaultValue = "4.0")
+	@MinMaxFloat(min = 0.0F, max = 16.0F)
+	@Comment("Block sounds of the same kind within this many blocks are played as one (0 to disable)")
+	public static float soundClusterRadius = 4.0F;
+	@Parameter(category = CATEGORY_SOUND, property = CONFIG_SOUND_CLUSTER_WINDOW, defaultValue = "2")
+	@MinMaxInt(min = 1, max = 10)
+	@Comment("Ticks to gather block sounds into a cluster before playing it")
+	public static int soundClusterWindow = 2;
 	@Parameter(category = CATEGORY_SOUND, property = CONFIG_ENABLE_JUMP_SOUND, defaultValue = "true")
 	@Comment("Enable sound effect when jumping")
 	@RestartRequired
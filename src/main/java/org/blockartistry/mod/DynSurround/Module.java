@@ -34,6 +34,7 @@ import net.minecraftforge.fml.common.Mod.EventHandler;
 import net.minecraftforge.fml.common.Mod.Instance;
 import net.minecraftforge.fml.common.SidedProxy;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLModIdMappingEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
@@ -108,6 +109,11 @@ public class Module {
 		config.save();
 	}
 
+	@EventHandler
+	public void idMapping(final FMLModIdMappingEvent event) {
+		proxy.idMapping(event);
+	}
+
 	@EventHandler
 	public void serverStarting(final FMLServerStartingEvent event) {
 		proxy.serverStarting(event);
@@ -109,6 +109,16 @@ public final class AuroraEffectHandler implements IClientEffectHandler {
 		return false;
 	}
 
+	@Override
+	public int getPeriod() {
+		return 1;
+	}
+
+	@Override
+	public int getCost() {
+		return 50;
+	}
+
 	/*
 	 * Need to get called every tick to process the dust fade timer as well as
 	 * aurora processing.
@@ -21,88 +21,210 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-
 package org.blockartistry.mod.DynSurround.client;
 
 import org.blockartistry.mod.DynSurround.client.EnvironStateHandler.EnvironState;
 import org.blockartistry.mod.DynSurround.data.FakeBiome;
+import org.blockartistry.mod.DynSurround.util.ColumnHistogram;
 
-import gnu.trove.map.hash.TObjectIntHashMap;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+/*
+ * Maintains a histogram of the biomes in a square window around the player.
+ * The window slides with the player so moving a block only samples the new
+ * edge. Changes in Y don't affect the survey. Columns sampled before their
+ * chunk arrived are sampled again when it loads.
+ */
 @SideOnly(Side.CLIENT)
 public final class BiomeSurveyHandler implements IClientEffectHandler {
 
 	private static final int BIOME_SURVEY_RANGE = 6;
 
+	private static final BiomeGenBase[] BIOMES = BiomeGenBase.getBiomeGenArray();
+
+	private static final ColumnHistogram histogram = new ColumnHistogram(BIOME_SURVEY_RANGE, BIOMES.length);
+
+	// Compacted view of the histogram handed out to consumers
 	private static int area;
-	private static final TObjectIntHashMap<BiomeGenBase> weights = new TObjectIntHashMap<BiomeGenBase>();
+	private static int biomeCount;
+	private static BiomeGenBase[] biomes = new BiomeGenBase[BIOMES.length];
+	private static int[] weights = new int[BIOMES.length];
+	private static BiomeGenBase[] lastBiomes = new BiomeGenBase[BIOMES.length];
+	private static int[] lastWeights = new int[BIOMES.length];
 
 	private static BiomeGenBase lastPlayerBiome = null;
 	private static int lastDimension = 0;
 	private static int lastPlayerX = 0;
-	private static int lastPlayerY = 0;
 	private static int lastPlayerZ = 0;
 
+	// Area covered by chunks loaded since the last survey pass
+	private static boolean chunksLoaded = false;
+	private static int loadedMinX;
+	private static int loadedMinZ;
+	private static int loadedMaxX;
+	private static int loadedMaxZ;
+
+	private static final class BiomeSampler implements ColumnHistogram.ISampler {
+
+		private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+		private World world;
+
+		@Override
+		public int sample(final int x, final int z) {
+			this.pos.set(x, 0, z);
+			final BiomeGenBase biome = this.world.getBiomeGenForCoords(this.pos);
+			return biome != null ? biome.biomeID : -1;
+		}
+	}
+
+	private static final BiomeSampler sampler = new BiomeSampler();
+
 	public static int getArea() {
 		return area;
 	}
 
-	public static TObjectIntHashMap<BiomeGenBase> getBiomes() {
-		return weights;
+	/*
+	 * Number of distinct biomes in the survey. Use getBiome() and getWeight()
+	 * to walk the results.
+	 */
+	public static int getBiomeCount() {
+		return biomeCount;
+	}
+
+	public static BiomeGenBase getBiome(final int index) {
+		return biomes[index];
+	}
+
+	public static int getWeight(final int index) {
+		return weights[index];
 	}
 
 	/*
-	 * Perform a biome survey around the player at the specified range.
+	 * Rebuilds the compacted results from the histogram. Returns true if
+	 * they differ from the prior survey.
 	 */
-	public static void doSurvey(final EntityPlayer player, final int range) {
-		area = 0;
-		weights.clear();
-		
-		if (EnvironState.getPlayerBiome() instanceof FakeBiome) {
+	private static boolean compact(final BiomeGenBase fake) {
+		final BiomeGenBase[] tb = lastBiomes;
+		final int[] tw = lastWeights;
+		lastBiomes = biomes;
+		lastWeights = weights;
+		biomes = tb;
+		weights = tw;
+
+		final int lastCount = biomeCount;
+		final int lastArea = area;
+
+		biomeCount = 0;
+		if (fake != null) {
 			area = 1;
-			weights.put(EnvironState.getPlayerBiome(), 1);
+			biomes[0] = fake;
+			weights[0] = 1;
+			biomeCount = 1;
 		} else {
-			final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
-			final int x = MathHelper.floor_double(player.posX);
-			final int z = MathHelper.floor_double(player.posZ);
-
-			for (int dX = -range; dX <= range; dX++)
-				for (int dZ = -range; dZ <= range; dZ++) {
-					area++;
-					pos.set(x + dX, 0, z + dZ);
-					final BiomeGenBase biome = player.worldObj.getBiomeGenForCoords(pos);
-					weights.adjustOrPutValue(biome, 1, 1);
+			area = histogram.getArea();
+			for (int id = 0; id < histogram.getBuckets(); id++)
+				if (histogram.getCount(id) > 0) {
+					biomes[biomeCount] = BIOMES[id];
+					weights[biomeCount++] = histogram.getCount(id);
 				}
 		}
+
+		if (biomeCount != lastCount || area != lastArea)
+			return true;
+		for (int i = 0; i < biomeCount; i++)
+			if (biomes[i] != lastBiomes[i] || weights[i] != lastWeights[i])
+				return true;
+		return false;
 	}
 
 	@Override
 	public void process(final World world, final EntityPlayer player) {
 		final int playerX = MathHelper.floor_double(player.posX);
-		final int playerY = MathHelper.floor_double(player.posY);
 		final int playerZ = MathHelper.floor_double(player.posZ);
+		final BiomeGenBase playerBiome = EnvironState.getPlayerBiome();
+
+		final boolean moved = playerX != lastPlayerX || playerZ != lastPlayerZ;
+		final boolean current = histogram.isValid() || playerBiome instanceof FakeBiome;
+		if (current && !moved && !chunksLoaded && lastDimension == EnvironState.getDimensionId()
+				&& lastPlayerBiome == playerBiome)
+			return;
 
-		if (lastDimension != EnvironState.getDimensionId() || playerX != lastPlayerX || playerY != lastPlayerY
-				|| playerZ != lastPlayerZ || lastPlayerBiome != EnvironState.getPlayerBiome()) {
-			lastPlayerBiome = EnvironState.getPlayerBiome();
-			lastDimension = EnvironState.getDimensionId();
-			lastPlayerX = playerX;
-			lastPlayerY = playerY;
-			lastPlayerZ = playerZ;
-			doSurvey(player, BIOME_SURVEY_RANGE);
+		if (lastDimension != EnvironState.getDimensionId())
+			histogram.invalidate();
+
+		BiomeGenBase fake = null;
+		if (playerBiome instanceof FakeBiome) {
+			// The window is dropped while the player is in a fake biome
+			fake = playerBiome;
+			histogram.invalidate();
+		} else {
+			sampler.world = world;
+			if (chunksLoaded)
+				histogram.resample(sampler, loadedMinX, loadedMinZ, loadedMaxX, loadedMaxZ);
+			histogram.moveTo(sampler, playerX, playerZ);
+			sampler.world = null;
 		}
+
+		chunksLoaded = false;
+		lastPlayerBiome = playerBiome;
+		lastDimension = EnvironState.getDimensionId();
+		lastPlayerX = playerX;
+		lastPlayerZ = playerZ;
+
+		if (compact(fake))
+			EnvironState.markChanged();
 	}
 
 	@Override
 	public boolean hasEvents() {
-		return false;
+		return true;
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(final ChunkEvent.Load event) {
+		if (!event.world.isRemote)
+			return;
+
+		// Only chunks that overlap the current window matter; columns that
+		// enter the window later are sampled when they do.
+		final Chunk chunk = event.getChunk();
+		final int minX = chunk.xPosition << 4;
+		final int minZ = chunk.zPosition << 4;
+		if (minX > lastPlayerX + BIOME_SURVEY_RANGE || minX + 15 < lastPlayerX - BIOME_SURVEY_RANGE
+				|| minZ > lastPlayerZ + BIOME_SURVEY_RANGE || minZ + 15 < lastPlayerZ - BIOME_SURVEY_RANGE)
+			return;
+
+		if (!chunksLoaded) {
+			chunksLoaded = true;
+			loadedMinX = minX;
+			loadedMinZ = minZ;
+			loadedMaxX = minX + 15;
+			loadedMaxZ = minZ + 15;
+		} else {
+			loadedMinX = Math.min(loadedMinX, minX);
+			loadedMinZ = Math.min(loadedMinZ, minZ);
+			loadedMaxX = Math.max(loadedMaxX, minX + 15);
+			loadedMaxZ = Math.max(loadedMaxZ, minZ + 15);
+		}
+	}
+
+	@Override
+	public int getPeriod() {
+		return 4;
+	}
+
+	@Override
+	public int getCost() {
+		return 200;
 	}
 
 }
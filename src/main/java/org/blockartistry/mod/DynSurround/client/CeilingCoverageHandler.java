@@ -0,0 +1,186 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.BlockPos;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/*
+ * Works out how much of the area around the player is covered by a ceiling.
+ * The top block heights of the columns around the player are cached in a ring
+ * indexed by world coordinate so moving only rescans the new edge. Columns are
+ * dropped from the cache when a block in them changes or their chunk is
+ * (re)loaded.
+ */
+@SideOnly(Side.CLIENT)
+public final class CeilingCoverageHandler implements IClientEffectHandler {
+
+	private static final int RANGE = 3;
+	private static final int SIZE = RANGE * 2 + 1;
+	private static final int AREA = SIZE * SIZE;
+	private static final float INSIDE_THRESHOLD = 0.42F;
+
+	private static final int[] columnX = new int[AREA];
+	private static final int[] columnZ = new int[AREA];
+	private static final int[] heights = new int[AREA];
+	private static final boolean[] valid = new boolean[AREA];
+
+	private static float ratio;
+
+	private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+	public CeilingCoverageHandler() {
+	}
+
+	/*
+	 * Ratio of the columns around the player that have a solid block at least
+	 * 3 blocks above the player's feet. Computed once per tick.
+	 */
+	public static float getRatio() {
+		return ratio;
+	}
+
+	public static boolean isReallyInside() {
+		return ratio > INSIDE_THRESHOLD;
+	}
+
+	private static int wrap(final int v) {
+		final int r = v % SIZE;
+		return r < 0 ? r + SIZE : r;
+	}
+
+	private static int slot(final int x, final int z) {
+		return wrap(x) * SIZE + wrap(z);
+	}
+
+	private static void invalidate() {
+		for (int i = 0; i < AREA; i++)
+			valid[i] = false;
+	}
+
+	private static void invalidate(final int x, final int z) {
+		final int idx = slot(x, z);
+		if (columnX[idx] == x && columnZ[idx] == z)
+			valid[idx] = false;
+	}
+
+	private static void invalidate(final int x1, final int z1, final int x2, final int z2) {
+		for (int i = 0; i < AREA; i++)
+			if (columnX[i] >= x1 && columnX[i] <= x2 && columnZ[i] >= z1 && columnZ[i] <= z2)
+				valid[i] = false;
+	}
+
+	@Override
+	public void process(final World world, final EntityPlayer player) {
+		final int targetY = (int) player.posY;
+		final int playerX = MathHelper.floor_double(player.posX);
+		final int playerZ = MathHelper.floor_double(player.posZ);
+
+		int seeSky = 0;
+		for (int x = playerX - RANGE; x <= playerX + RANGE; x++)
+			for (int z = playerZ - RANGE; z <= playerZ + RANGE; z++) {
+				final int idx = slot(x, z);
+				if (!valid[idx] || columnX[idx] != x || columnZ[idx] != z) {
+					this.pos.set(x, 0, z);
+					heights[idx] = world.getTopSolidOrLiquidBlock(this.pos).getY();
+					columnX[idx] = x;
+					columnZ[idx] = z;
+					valid[idx] = true;
+				}
+				if ((heights[idx] - targetY) < 3)
+					++seeSky;
+			}
+
+		ratio = 1.0F - ((float) seeSky / AREA);
+	}
+
+	@Override
+	public boolean hasEvents() {
+		return true;
+	}
+
+	@Override
+	public int getPeriod() {
+		return 1;
+	}
+
+	@Override
+	public int getCost() {
+		return 20;
+	}
+
+	@SubscribeEvent
+	public void onWorldLoad(final WorldEvent.Load event) {
+		if (!event.world.isRemote)
+			return;
+		invalidate();
+		event.world.addWorldAccess(new BlockListener());
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(final WorldEvent.Unload event) {
+		if (event.world.isRemote)
+			invalidate();
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(final ChunkEvent.Load event) {
+		if (event.world.isRemote)
+			invalidate(event.getChunk());
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(final ChunkEvent.Unload event) {
+		if (event.world.isRemote)
+			invalidate(event.getChunk());
+	}
+
+	private static void invalidate(final Chunk chunk) {
+		final int x = chunk.xPosition << 4;
+		final int z = chunk.zPosition << 4;
+		invalidate(x, z, x + 15, z + 15);
+	}
+
+	private static final class BlockListener extends WorldAccessAdapter {
+
+		@Override
+		public void markBlockForUpdate(final BlockPos pos) {
+			invalidate(pos.getX(), pos.getZ());
+		}
+
+		@Override
+		public void markBlockRangeForRenderUpdate(final int x1, final int y1, final int z1, final int x2,
+				final int y2, final int z2) {
+			invalidate(x1, z1, x2, z2);
+		}
+	}
+}
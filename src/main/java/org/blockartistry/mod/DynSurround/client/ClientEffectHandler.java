@@ -32,6 +32,8 @@ import org.blockartistry.mod.DynSurround.ModOptions;
 import org.blockartistry.mod.DynSurround.client.footsteps.Footsteps;
 import org.blockartistry.mod.DynSurround.client.fx.BlockEffectHandler;
 import org.blockartistry.mod.DynSurround.data.DimensionRegistry;
+import org.blockartistry.mod.DynSurround.event.DiagnosticEvent;
+import org.blockartistry.mod.DynSurround.util.TickProfile;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
@@ -52,7 +54,8 @@ public class ClientEffectHandler {
 
 	// These dimensions will be excluded from shimming
 	private static final List<String> dimensionNamePatterns = new ArrayList<String>();
-	private static final List<IClientEffectHandler> effectHandlers = new ArrayList<IClientEffectHandler>();
+	private static final List<HandlerSlot> handlers = new ArrayList<HandlerSlot>();
+	private static long tickCount;
 
 	static {
 		dimensionNamePatterns.add("^Nether");
@@ -60,8 +63,84 @@ public class ClientEffectHandler {
 		dimensionNamePatterns.add("^Tardis Interior");
 	}
 
+	/*
+	 * Scheduling state for a registered handler. Handlers with a period > 1
+	 * run on ticks congruent to their offset, and can slip up to a period
+	 * behind when the tick budget runs out.
+	 */
+	private static final class HandlerSlot {
+
+		public final IClientEffectHandler handler;
+		public final TickProfile profile;
+		public final int period;
+		public final int cost;
+		public int offset;
+		public long nextTick;
+		public long deferred;
+
+		public HandlerSlot(final IClientEffectHandler handler) {
+			this.handler = handler;
+			this.profile = new TickProfile(handler.getClass().getSimpleName());
+			this.profile.setTrackAllocations(ModOptions.enableDebugLogging);
+			this.period = Math.max(1, handler.getPeriod());
+			this.cost = Math.max(0, handler.getCost());
+		}
+
+		public boolean isPeriodic() {
+			return this.period > 1;
+		}
+
+		// Estimated nanos for the next call
+		public long estimate() {
+			return this.profile.getSampleCount() > 0 ? this.profile.getAverage() : this.cost * 1000L;
+		}
+
+		public void scheduleAfter(final long tick) {
+			this.nextTick = tick - (tick - this.offset) % this.period + this.period;
+		}
+	}
+
+	private static int gcd(int a, int b) {
+		while (b != 0) {
+			final int t = a % b;
+			a = b;
+			b = t;
+		}
+		return a;
+	}
+
+	/*
+	 * Picks the phase for a periodic handler that minimizes the expected cost
+	 * of the periodic handlers it shares ticks with. Two handlers with periods
+	 * p1 and p2 meet when their offsets are congruent mod gcd(p1, p2), and
+	 * then once every lcm(p1, p2) ticks.
+	 */
+	private static int pickOffset(final int period) {
+		int best = 0;
+		double bestLoad = Double.MAX_VALUE;
+		for (int offset = 0; offset < period; offset++) {
+			double load = 0;
+			for (final HandlerSlot slot : handlers) {
+				if (!slot.isPeriodic())
+					continue;
+				final int g = gcd(period, slot.period);
+				if ((offset - slot.offset) % g == 0)
+					load += (double) slot.cost * g / slot.period;
+			}
+			if (load < bestLoad) {
+				bestLoad = load;
+				best = offset;
+			}
+		}
+		return best;
+	}
+
 	public static void register(final IClientEffectHandler handler) {
-		effectHandlers.add(handler);
+		final HandlerSlot slot = new HandlerSlot(handler);
+		if (slot.isPeriodic())
+			slot.offset = pickOffset(slot.period);
+		slot.nextTick = tickCount + (slot.offset - tickCount % slot.period + slot.period) % slot.period;
+		handlers.add(slot);
 		if (handler.hasEvents()) {
 			MinecraftForge.EVENT_BUS.register(handler);
 		}
@@ -70,10 +149,29 @@ public class ClientEffectHandler {
 	private ClientEffectHandler() {
 	}
 
+	/**
+	 * Timing profiles of the registered handlers, in the order they are
+	 * processed each tick.
+	 */
+	public static List<TickProfile.Snapshot> getProfiles() {
+		final List<TickProfile.Snapshot> result = new ArrayList<TickProfile.Snapshot>(handlers.size());
+		for (final HandlerSlot slot : handlers)
+			result.add(slot.profile.snapshot());
+		return result;
+	}
+
+	public static void resetProfiles() {
+		for (final HandlerSlot slot : handlers) {
+			slot.profile.reset();
+			slot.deferred = 0;
+		}
+	}
+
 	public static void initialize() {
 		final ClientEffectHandler handler = new ClientEffectHandler();
 		MinecraftForge.EVENT_BUS.register(handler);
 
+		register(new CeilingCoverageHandler());
 		register(new EnvironStateHandler());
 		register(new BiomeSurveyHandler());
 		register(new FogEffectHandler());
@@ -106,8 +204,40 @@ public class ClientEffectHandler {
 
 		if (event.phase == Phase.START) {
 			final EntityPlayer player = FMLClientHandler.instance().getClient().thePlayer;
-			for (final IClientEffectHandler handler : effectHandlers)
-				handler.process(world, player);
+			final long tick = tickCount++;
+			final long budget = ModOptions.effectTickBudget * 1000L;
+			final long start = System.nanoTime();
+			for (int i = 0; i < handlers.size(); i++) {
+				final HandlerSlot slot = handlers.get(i);
+				if (slot.isPeriodic()) {
+					if (tick < slot.nextTick)
+						continue;
+
+					// Spill into the next tick if over budget, but never
+					// slip a full period.
+					final boolean overdue = tick - slot.nextTick >= slot.period - 1;
+					if (budget > 0 && !overdue && System.nanoTime() - start + slot.estimate() > budget) {
+						slot.deferred++;
+						continue;
+					}
+					slot.scheduleAfter(tick);
+				}
+
+				slot.profile.begin();
+				slot.handler.process(world, player);
+				slot.profile.end();
+			}
+		}
+	}
+
+	@SubscribeEvent(priority = EventPriority.LOWEST)
+	public void diagnostics(final DiagnosticEvent.Gather event) {
+		for (final HandlerSlot slot : handlers) {
+			final String text = slot.profile.snapshot().toString();
+			if (slot.isPeriodic())
+				event.output.add(text + String.format(" [%d/%d, deferred %d]", slot.offset, slot.period, slot.deferred));
+			else
+				event.output.add(text);
 		}
 	}
 
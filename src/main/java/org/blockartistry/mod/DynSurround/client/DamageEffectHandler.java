@@ -31,6 +31,8 @@ import org.blockartistry.mod.DynSurround.client.EnvironStateHandler.EnvironState
 import org.blockartistry.mod.DynSurround.client.fx.particle.EntityCriticalPopOffFX;
 import org.blockartistry.mod.DynSurround.client.fx.particle.EntityDamagePopOffFX;
 import org.blockartistry.mod.DynSurround.client.fx.particle.EntityHealPopOffFX;
+import org.blockartistry.mod.DynSurround.client.fx.particle.ParticleBudget;
+import org.blockartistry.mod.DynSurround.client.fx.particle.ParticleBudget.Category;
 import org.blockartistry.mod.DynSurround.network.Network;
 
 import net.minecraft.client.Minecraft;
@@ -148,6 +150,19 @@ public final class DamageEffectHandler {
 		if (!ModOptions.enableDamagePopoffs)
 			return;
 
+		// Packets are handled on the network thread. The particles have to
+		// be created on the client thread.
+		final Minecraft mc = Minecraft.getMinecraft();
+		if (!mc.isCallingFromMinecraftThread()) {
+			mc.addScheduledTask(new Runnable() {
+				@Override
+				public void run() {
+					handleEvent(data);
+				}
+			});
+			return;
+		}
+
 		// Don't show the players pop-offs
 		if (EnvironState.isPlayer(data.entityId))
 			return;
@@ -158,17 +173,19 @@ public final class DamageEffectHandler {
 			return;
 
 		final World world = EnvironState.getWorld();
-		final EffectRenderer renderer = Minecraft.getMinecraft().effectRenderer;
+		final EffectRenderer renderer = mc.effectRenderer;
 		EntityFX fx;
 
-		if (data.isCritical) {
-			fx = new EntityCriticalPopOffFX(world, data.posX, data.posY, data.posZ);
+		if (data.isCritical && ParticleBudget.request(Category.POPOFF)) {
+			fx = EntityCriticalPopOffFX.create(world, data.posX, data.posY, data.posZ);
 			renderer.addEffect(fx);
 		}
+		if (!ParticleBudget.request(Category.POPOFF))
+			return;
 		if (data.amount > 0) {
-			fx = new EntityDamagePopOffFX(world, data.posX, data.posY, data.posZ, data.amount);
+			fx = EntityDamagePopOffFX.create(world, data.posX, data.posY, data.posZ, data.amount);
 		} else {
-			fx = new EntityHealPopOffFX(world, data.posX, data.posY, data.posZ, MathHelper.abs_int(data.amount));
+			fx = EntityHealPopOffFX.create(world, data.posX, data.posY, data.posZ, MathHelper.abs_int(data.amount));
 		}
 		renderer.addEffect(fx);
 	}
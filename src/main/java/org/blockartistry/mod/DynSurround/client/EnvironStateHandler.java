@@ -34,8 +34,12 @@ import org.blockartistry.mod.DynSurround.client.sound.SoundEffect;
 import org.blockartistry.mod.DynSurround.client.sound.SoundManager;
 import org.blockartistry.mod.DynSurround.client.storm.StormProperties;
 import org.blockartistry.mod.DynSurround.data.BiomeRegistry;
+import org.blockartistry.mod.DynSurround.data.ConditionRegistry;
 import org.blockartistry.mod.DynSurround.data.DimensionRegistry;
+import org.blockartistry.mod.DynSurround.data.SoundSelector;
 import org.blockartistry.mod.DynSurround.event.DiagnosticEvent;
+import org.blockartistry.mod.DynSurround.event.EnvironmentEvent;
+import org.blockartistry.mod.DynSurround.event.RegistryReloadEvent;
 import org.blockartistry.mod.DynSurround.util.PlayerUtils;
 import org.blockartistry.mod.DynSurround.util.XorShiftRandom;
 
@@ -113,6 +117,8 @@ public class EnvironStateHandler implements IClientEffectHandler {
 		// State that is gathered from the various sources
 		// to avoid requery. Used during the tick.
 		private static String conditions = "";
+		private static long conditionMask;
+		private static final ConditionRegistry.Builder conditionBuilder = new ConditionRegistry.Builder();
 		private static String biomeName = "";
 		private static BiomeGenBase playerBiome = null;
 		private static int dimensionId;
@@ -127,6 +133,18 @@ public class EnvironStateHandler implements IClientEffectHandler {
 
 		private static int tickCounter;
 
+		// Bumped whenever one of the derived values changes
+		private static int epoch;
+
+		private static final String[] TEMPERATURE_CATEGORIES;
+
+		static {
+			final BiomeGenBase.TempCategory[] categories = BiomeGenBase.TempCategory.values();
+			TEMPERATURE_CATEGORIES = new String[categories.length];
+			for (final BiomeGenBase.TempCategory category : categories)
+				TEMPERATURE_CATEGORIES[category.ordinal()] = "tc" + category.name().toLowerCase();
+		}
+
 		private static final String CONDITION_TOKEN_HURT = "hurt";
 		private static final String CONDITION_TOKEN_HUNGRY = "hungry";
 		private static final String CONDITION_TOKEN_BURNING = "burning";
@@ -147,83 +165,123 @@ public class EnvironStateHandler implements IClientEffectHandler {
 		private static final String CONDITION_TOKEN_HUMID = "humid";
 		private static final String CONDITION_TOKEN_DRY = "dry";
 		private static final String CONDITION_TOKEN_INSIDE = "inside";
-		private static final char CONDITION_SEPARATOR = '#';
 
-		private static String getPlayerConditions(final EntityPlayer player) {
-			final StringBuilder builder = new StringBuilder();
+		private static void getPlayerConditions(final EntityPlayer player, final ConditionRegistry.Builder builder) {
 			if (isPlayerHurt())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_HURT);
+				builder.add(CONDITION_TOKEN_HURT);
 			if (isPlayerHungry())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_HUNGRY);
+				builder.add(CONDITION_TOKEN_HUNGRY);
 			if (isPlayerBurning())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_BURNING);
+				builder.add(CONDITION_TOKEN_BURNING);
 			if (isPlayerSuffocating())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_NOAIR);
+				builder.add(CONDITION_TOKEN_NOAIR);
 			if (isPlayerFlying())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_FLYING);
+				builder.add(CONDITION_TOKEN_FLYING);
 			if (isPlayerSprinting())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_SPRINTING);
+				builder.add(CONDITION_TOKEN_SPRINTING);
 			if (isPlayerInLava())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_INLAVA);
+				builder.add(CONDITION_TOKEN_INLAVA);
 			if (isPlayerInvisible())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_INVISIBLE);
+				builder.add(CONDITION_TOKEN_INVISIBLE);
 			if (isPlayerBlind())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_BLIND);
+				builder.add(CONDITION_TOKEN_BLIND);
 			if (isPlayerInWater())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_INWATER);
+				builder.add(CONDITION_TOKEN_INWATER);
 			if (isFreezing())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_FREEZING);
+				builder.add(CONDITION_TOKEN_FREEZING);
 			if (isFoggy())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_FOG);
+				builder.add(CONDITION_TOKEN_FOG);
 			if (isHumid())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_HUMID);
+				builder.add(CONDITION_TOKEN_HUMID);
 			if (isDry())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_DRY);
+				builder.add(CONDITION_TOKEN_DRY);
 			if (isPlayerInside())
-				builder.append(CONDITION_SEPARATOR).append(CONDITION_TOKEN_INSIDE);
+				builder.add(CONDITION_TOKEN_INSIDE);
 			if (isPlayerRiding()) {
-				builder.append(CONDITION_SEPARATOR);
 				if (player.ridingEntity instanceof EntityMinecart)
-					builder.append(CONDITION_TOKEN_MINECART);
+					builder.add(CONDITION_TOKEN_MINECART);
 				else if (player.ridingEntity instanceof EntityHorse)
-					builder.append(CONDITION_TOKEN_HORSE);
+					builder.add(CONDITION_TOKEN_HORSE);
 				else if (player.ridingEntity instanceof EntityBoat)
-					builder.append(CONDITION_TOKEN_BOAT);
+					builder.add(CONDITION_TOKEN_BOAT);
 				else if (player.ridingEntity instanceof EntityPig)
-					builder.append(CONDITION_TOKEN_PIG);
+					builder.add(CONDITION_TOKEN_PIG);
 				else
-					builder.append(CONDITION_TOKEN_RIDING);
+					builder.add(CONDITION_TOKEN_RIDING);
 			}
-			builder.append(CONDITION_SEPARATOR).append(temperatureCategory);
-			builder.append(CONDITION_SEPARATOR);
-			return builder.toString();
+			builder.add(temperatureCategory);
+			builder.close();
 		}
 
 		private static void tick(final World world, final EntityPlayer player) {
 			EnvironState.player = player;
-			EnvironState.conditions = DimensionRegistry.getConditions(world) + getPlayerConditions(player);
-			EnvironState.playerBiome = PlayerUtils.getPlayerBiome(player, false);
-			EnvironState.biomeName = BiomeRegistry.resolveName(EnvironState.playerBiome);
-			EnvironState.dimensionId = world.provider.getDimensionId();
+			boolean changed = false;
+
+			conditionBuilder.reset();
+			DimensionRegistry.getConditions(world, conditionBuilder);
+			getPlayerConditions(player, conditionBuilder);
+			EnvironState.conditionMask = conditionBuilder.getMask();
+			if (!conditionBuilder.contentEquals(EnvironState.conditions)) {
+				EnvironState.conditions = conditionBuilder.getConditions();
+				ConditionRegistry.publish(EnvironState.conditions);
+				changed = true;
+			}
+
+			final BiomeGenBase biome = PlayerUtils.getPlayerBiome(player, false);
+			if (biome != EnvironState.playerBiome) {
+				EnvironState.playerBiome = biome;
+				EnvironState.biomeName = BiomeRegistry.resolveName(EnvironState.playerBiome);
+				changed = true;
+			}
+
+			final int dimId = world.provider.getDimensionId();
+			if (dimId != EnvironState.dimensionId) {
+				EnvironState.dimensionId = dimId;
+				changed = true;
+			}
+
 			EnvironState.dimensionName = world.provider.getDimensionName();
 			EnvironState.fog = FogEffectHandler.currentFogLevel() >= 0.01F;
-			EnvironState.inside = PlayerUtils.isReallyInside(EnvironState.player);
+			EnvironState.inside = CeilingCoverageHandler.isReallyInside();
 
 			final BlockPos playerPos = new BlockPos(player.posX, player.posY, player.posZ);
 			final BiomeGenBase trueBiome = PlayerUtils.getPlayerBiome(player, true);
 			EnvironState.freezing = trueBiome.getFloatTemperature(playerPos) < 0.15F;
-			EnvironState.temperatureCategory = "tc" + trueBiome.getTempCategory().name().toLowerCase();
+			EnvironState.temperatureCategory = TEMPERATURE_CATEGORIES[trueBiome.getTempCategory().ordinal()];
 			EnvironState.humid = trueBiome.isHighHumidity();
 			EnvironState.dry = trueBiome.getFloatRainfall() == 0;
 
 			if (!Minecraft.getMinecraft().isGamePaused())
 				EnvironState.tickCounter++;
+
+			// The remaining derived values feed into the condition string
+			// so they are covered by the comparison above.
+			if (changed)
+				markChanged();
+		}
+
+		/*
+		 * Bumps the environment epoch and lets listeners know. Handlers that
+		 * derive their state from the environment can compare against
+		 * getEpoch() to skip work on ticks where nothing changed.
+		 */
+		static void markChanged() {
+			epoch++;
+			MinecraftForge.EVENT_BUS.post(new EnvironmentEvent.Change(epoch));
+		}
+
+		public static int getEpoch() {
+			return epoch;
 		}
 
 		public static String getConditions() {
 			return conditions;
 		}
 
+		public static long getConditionMask() {
+			return conditionMask;
+		}
+
 		public static BiomeGenBase getPlayerBiome() {
 			return playerBiome;
 		}
@@ -378,6 +436,16 @@ public class EnvironStateHandler implements IClientEffectHandler {
 		return true;
 	}
 
+	@Override
+	public int getPeriod() {
+		return 1;
+	}
+
+	@Override
+	public int getCost() {
+		return 50;
+	}
+
 	@SubscribeEvent
 	public void onJump(final LivingJumpEvent event) {
 		if (JUMP == null || event.entity == null || event.entity.worldObj == null)
@@ -435,6 +503,16 @@ public class EnvironStateHandler implements IClientEffectHandler {
 		}
 	}
 
+	/*
+	 * Fired when the underlying biome or block config is reloaded. Anything
+	 * cached against the current epoch or condition mask is stale.
+	 */
+	@SubscribeEvent
+	public void registryReloadEvent(final RegistryReloadEvent event) {
+		SoundSelector.invalidate();
+		EnvironState.markChanged();
+	}
+
 	@SubscribeEvent(priority = EventPriority.HIGHEST)
 	public void diagnostics(final DiagnosticEvent.Gather event) {
 		final EntityPlayer player = EnvironState.getPlayer();
@@ -444,6 +522,8 @@ public class EnvironStateHandler implements IClientEffectHandler {
 		event.output.add(StormProperties.diagnostic());
 		event.output.add("Biome: " + EnvironState.getBiomeName());
 		event.output.add("Conditions: " + EnvironState.getConditions());
+		event.output.add(String.format("Condition mask: %x (epoch %d)", EnvironState.getConditionMask(),
+				EnvironState.getEpoch()));
 	}
 
 }
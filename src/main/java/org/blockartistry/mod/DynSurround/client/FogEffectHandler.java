@@ -31,10 +31,8 @@ import org.blockartistry.mod.DynSurround.data.BiomeRegistry;
 import org.blockartistry.mod.DynSurround.data.DimensionRegistry;
 import org.blockartistry.mod.DynSurround.event.DiagnosticEvent;
 import org.blockartistry.mod.DynSurround.util.Color;
-import org.blockartistry.mod.DynSurround.util.PlayerUtils;
 import org.lwjgl.opengl.GL11;
 
-import gnu.trove.map.hash.TObjectIntHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.renderer.ActiveRenderInfo;
@@ -59,7 +57,21 @@ public class FogEffectHandler implements IClientEffectHandler {
 	// toward the target.
 	private static float currentFogLevel = 0.0F;
 	private static float insideFogOffset = 0.0F;
-	private static Color currentFogColor = null;
+	private static final Color currentFogColor = new Color(0, 0, 0);
+	private static boolean haveFogColor = false;
+
+	// Survey weighted values that only change with the environment
+	// epoch. The per tick work is blending them with the current
+	// brightness, rain and sky fog color.
+	private static int lastEpoch = -1;
+	// The fog options decide what the survey counts so they are part of the
+	// cache key
+	private static boolean lastBiomeFog;
+	private static boolean lastDesertFog;
+	private static float surveyBiomeFog = 0.0F;
+	private static float surveyDustScale = 0.0F;
+	private static float surveyVanillaScale = 0.0F;
+	private static final Color surveyTint = new Color(0, 0, 0);
 
 	public static float currentFogLevel() {
 		return currentFogLevel;
@@ -73,6 +85,16 @@ public class FogEffectHandler implements IClientEffectHandler {
 		return true;
 	}
 
+	@Override
+	public int getPeriod() {
+		return 2;
+	}
+
+	@Override
+	public int getCost() {
+		return 50;
+	}
+
 	private static float calcHazeBand(final World world, final EntityPlayer player) {
 		final float distance = MathHelper
 				.abs(DimensionRegistry.getCloudHeight(world) - (float) (player.posY + player.getEyeHeight()));
@@ -92,37 +114,54 @@ public class FogEffectHandler implements IClientEffectHandler {
 		return ratio * ratio * ratio * ratio * ModOptions.elevationHazeFactor;
 	}
 
+	private static void surveyBiomes() {
+		surveyBiomeFog = 0.0F;
+		surveyDustScale = 0.0F;
+		surveyVanillaScale = 0.0F;
+		surveyTint.set(Color.BLACK);
+
+		final int area = BiomeSurveyHandler.getArea();
+
+		for (int i = 0; i < BiomeSurveyHandler.getBiomeCount(); i++) {
+			final BiomeGenBase b = BiomeSurveyHandler.getBiome(i);
+			final int weight = BiomeSurveyHandler.getWeight(i);
+			final float scale = ((float) weight / (float) area);
+			if (ModOptions.enableBiomeFog && BiomeRegistry.hasFog(b)) {
+				surveyBiomeFog += BiomeRegistry.getFogDensity(b) * scale;
+				surveyTint.add(BiomeRegistry.getFogColor(b), scale);
+			} else if (ModOptions.allowDesertFog && BiomeRegistry.hasDust(b)) {
+				surveyDustScale += scale;
+				surveyTint.add(BiomeRegistry.getDustColor(b), scale);
+			} else {
+				surveyVanillaScale += scale;
+			}
+		}
+	}
+
 	@Override
 	public void process(final World world, final EntityPlayer player) {
 
-		currentFogColor = new Color(world.getFogColor(1.0F));
+		currentFogColor.set(world.getFogColor(1.0F));
+		haveFogColor = true;
 
 		float biomeFog = 0.0F;
 		float dustFog = 0.0F;
 		float heightFog = 0.0F;
 
 		if (ModOptions.enableBiomeFog || ModOptions.allowDesertFog) {
-			final float brightnessFactor = world.getSunBrightness(1.0F);
-			final Color tint = new Color(0, 0, 0);
-			final TObjectIntHashMap<BiomeGenBase> weights = BiomeSurveyHandler.getBiomes();
-			final int area = BiomeSurveyHandler.getArea();
-
-			for (final BiomeGenBase b : weights.keySet()) {
-				final int weight = weights.get(b);
-				final float scale = ((float) weight / (float) area);
-				if (ModOptions.enableBiomeFog && BiomeRegistry.hasFog(b)) {
-					biomeFog += BiomeRegistry.getFogDensity(b) * scale;
-					tint.add(Color.scale(BiomeRegistry.getFogColor(b), brightnessFactor).scale(scale));
-				} else if (ModOptions.allowDesertFog && BiomeRegistry.hasDust(b)) {
-					final float str = EnvironState.getWorld().getRainStrength(1.0F);
-					dustFog += StormProperties.getFogDensity() * scale * str;
-					tint.add(Color.scale(BiomeRegistry.getDustColor(b), brightnessFactor).scale(scale));
-				} else {
-					tint.add(Color.scale(currentFogColor, scale));
-				}
+			if (lastEpoch != EnvironState.getEpoch() || lastBiomeFog != ModOptions.enableBiomeFog
+					|| lastDesertFog != ModOptions.allowDesertFog) {
+				lastEpoch = EnvironState.getEpoch();
+				lastBiomeFog = ModOptions.enableBiomeFog;
+				lastDesertFog = ModOptions.allowDesertFog;
+				surveyBiomes();
 			}
 
-			currentFogColor = tint;
+			final float brightnessFactor = world.getSunBrightness(1.0F);
+			final float str = world.getRainStrength(1.0F);
+			biomeFog = surveyBiomeFog;
+			dustFog = StormProperties.getFogDensity() * surveyDustScale * str;
+			currentFogColor.scale(surveyVanillaScale).add(surveyTint, brightnessFactor);
 		}
 
 		biomeFog *= ModOptions.biomeFogFactor;
@@ -134,7 +173,7 @@ public class FogEffectHandler implements IClientEffectHandler {
 
 		// Get the max fog level between the three fog types
 		currentFogLevel = Math.max(biomeFog, Math.max(dustFog, heightFog));
-		insideFogOffset = PlayerUtils.ceilingCoverageRatio(player) * 15.0F;
+		insideFogOffset = CeilingCoverageHandler.getRatio() * 15.0F;
 	}
 
 	/*
@@ -144,7 +183,7 @@ public class FogEffectHandler implements IClientEffectHandler {
 	@SubscribeEvent(priority = EventPriority.LOWEST)
 	public void fogColorEvent(final EntityViewRenderEvent.FogColors event) {
 		// Timing is everything...
-		if (currentFogColor == null || event.getResult() != Result.DEFAULT)
+		if (!haveFogColor || event.getResult() != Result.DEFAULT)
 			return;
 
 		if (currentFogLevel == 0)
@@ -36,4 +36,18 @@ public interface IClientEffectHandler {
 	
 	boolean hasEvents();
 
+	/*
+	 * Desired number of ticks between calls to process(). A period of 1 runs
+	 * the handler every tick and it is never deferred; longer periods are
+	 * staggered against other handlers and can be pushed back to a following
+	 * tick when the tick budget is exhausted.
+	 */
+	int getPeriod();
+
+	/*
+	 * Estimated cost of a call to process() in microseconds. Used for
+	 * scheduling until the handler has been profiled.
+	 */
+	int getCost();
+
 }
@@ -59,19 +59,23 @@ public class PlayerSoundEffectHandler implements IClientEffectHandler {
 
 	private static final List<EntityDropParticleFX> drops = new ArrayList<EntityDropParticleFX>();
 
+	// Environment epoch the ambient sound list was built against
+	private static int lastEpoch = -1;
+	private static final List<SoundEffect> ambient = new ArrayList<SoundEffect>();
+
 	private static boolean doBiomeSounds() {
 		return EnvironState.isPlayerUnderground() || !EnvironState.isPlayerInside();
 	}
 
-	private static List<SoundEffect> getBiomeSounds(final String conditions) {
+	private static List<SoundEffect> getBiomeSounds(final long conditions) {
 		// Need to collect sounds from all the applicable biomes
 		// along with their weights.
 		final TObjectIntHashMap<SoundEffect> sounds = new TObjectIntHashMap<SoundEffect>();
-		final TObjectIntHashMap<BiomeGenBase> weights = BiomeSurveyHandler.getBiomes();
-		for (final BiomeGenBase biome : weights.keySet()) {
-			final List<SoundEffect> bs = BiomeRegistry.getSounds(biome, conditions);
+		for (int i = 0; i < BiomeSurveyHandler.getBiomeCount(); i++) {
+			final int weight = BiomeSurveyHandler.getWeight(i);
+			final List<SoundEffect> bs = BiomeRegistry.getSounds(BiomeSurveyHandler.getBiome(i), conditions);
 			for (final SoundEffect sound : bs)
-				sounds.put(sound, sounds.get(sound) + weights.get(biome));
+				sounds.put(sound, sounds.get(sound) + weight);
 		}
 
 		// Scale the volumes in the resulting list based on the weights
@@ -88,6 +92,7 @@ public class PlayerSoundEffectHandler implements IClientEffectHandler {
 	private static void resetSounds() {
 		SoundManager.clearSounds();
 		drops.clear();
+		lastEpoch = -1;
 	}
 
 	@Override
@@ -99,14 +104,18 @@ public class PlayerSoundEffectHandler implements IClientEffectHandler {
 		}
 
 		final BiomeGenBase playerBiome = EnvironState.getPlayerBiome();
-		final String conditions = EnvironState.getConditions();
+		final long conditions = EnvironState.getConditionMask();
 
-		final List<SoundEffect> sounds = new ArrayList<SoundEffect>();
-		if (doBiomeSounds())
-			sounds.addAll(getBiomeSounds(conditions));
-		sounds.addAll(BiomeRegistry.getSounds(BiomeRegistry.PLAYER, conditions));
+		// The ambient sound list only changes when the environment does
+		if (lastEpoch != EnvironState.getEpoch()) {
+			lastEpoch = EnvironState.getEpoch();
+			ambient.clear();
+			if (doBiomeSounds())
+				ambient.addAll(getBiomeSounds(conditions));
+			ambient.addAll(BiomeRegistry.getSounds(BiomeRegistry.PLAYER, conditions));
 
-		SoundManager.queueAmbientSounds(sounds);
+			SoundManager.queueAmbientSounds(ambient);
+		}
 
 		if (doBiomeSounds()) {
 			SoundEffect sound = BiomeRegistry.getSpotSound(playerBiome, conditions, EnvironState.RANDOM);
@@ -128,6 +137,16 @@ public class PlayerSoundEffectHandler implements IClientEffectHandler {
 		return true;
 	}
 
+	@Override
+	public int getPeriod() {
+		return 1;
+	}
+
+	@Override
+	public int getCost() {
+		return 50;
+	}
+
 	/*
 	 * Fired when the underlying biome config is reloaded.
 	 */
@@ -42,4 +42,14 @@ public class PotionParticleScrubHandler implements IClientEffectHandler {
 		return false;
 	}
 
+	@Override
+	public int getPeriod() {
+		return 1;
+	}
+
+	@Override
+	public int getCost() {
+		return 0;
+	}
+
 }
\ No newline at end of file
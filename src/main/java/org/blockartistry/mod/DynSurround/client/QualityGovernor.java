@@ -0,0 +1,194 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client;
+
+import org.blockartistry.mod.DynSurround.ModOptions;
+import org.blockartistry.mod.DynSurround.event.DiagnosticEvent;
+
+import net.minecraft.client.Minecraft;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/*
+ * Steps the weather and effect ranges and the splash particle count down when
+ * frame or client tick times run high, and back up when there is headroom.
+ * 
+ * The level is reviewed every EVAL_TICKS ticks against rolling averages. A
+ * single slow review steps the level down, but it only steps up after
+ * UP_REVIEWS reviews in a row that are comfortably fast. This keeps the
+ * level from flipping back and forth around the target.
+ */
+@SideOnly(Side.CLIENT)
+public final class QualityGovernor {
+
+	public static final int MAX_LEVEL = 4;
+
+	// Range and particle scale for each level
+	private static final float[] SCALE = { 0.5F, 0.625F, 0.75F, 0.875F, 1.0F };
+
+	private static final int EVAL_TICKS = 40;
+	private static final int UP_REVIEWS = 3;
+
+	// Average weight is 1/2^AVG_SHIFT
+	private static final int AVG_SHIFT = 4;
+
+	// Client tick time above which the level is stepped down
+	private static final long TICK_LIMIT = 25000000L;
+
+	private static int level = MAX_LEVEL;
+	private static int goodReviews;
+	private static int ticks;
+
+	private static long lastFrame;
+	private static long frameTime;
+	private static long tickStart;
+	private static long tickTime;
+
+	private QualityGovernor() {
+	}
+
+	public static int getLevel() {
+		return level;
+	}
+
+	public static float getScale() {
+		return SCALE[level];
+	}
+
+	/*
+	 * Scales a range by the current level, but not below the minimum.
+	 */
+	public static int scale(final int range, final int minimum) {
+		return Math.max(Math.min(range, minimum), Math.round(range * SCALE[level]));
+	}
+
+	/*
+	 * Rolling average of the time between rendered frames, in nanoseconds.
+	 * Zero until a frame has been measured.
+	 */
+	public static long getFrameTime() {
+		return frameTime;
+	}
+
+	/*
+	 * Rolling average of the time taken by a client tick, in nanoseconds.
+	 */
+	public static long getTickTime() {
+		return tickTime;
+	}
+
+	private static void review() {
+		final int min = Math.min(ModOptions.qualityMinLevel, ModOptions.qualityMaxLevel);
+		final int max = ModOptions.qualityMaxLevel;
+
+		if (ModOptions.qualityTargetFPS <= 0 || frameTime == 0) {
+			level = max;
+			return;
+		}
+
+		final long target = 1000000000L / ModOptions.qualityTargetFPS;
+		if (frameTime > target || tickTime > TICK_LIMIT) {
+			goodReviews = 0;
+			level--;
+		} else if (frameTime < target - target / 5 && tickTime < TICK_LIMIT / 2) {
+			if (++goodReviews >= UP_REVIEWS) {
+				goodReviews = 0;
+				level++;
+			}
+		} else {
+			goodReviews = 0;
+		}
+
+		if (level < min)
+			level = min;
+		else if (level > max)
+			level = max;
+	}
+
+	private static boolean isActive() {
+		final Minecraft mc = Minecraft.getMinecraft();
+		return mc.theWorld != null && !mc.isGamePaused();
+	}
+
+	public static final class EventHandler {
+
+		@SubscribeEvent
+		public void clientTick(final TickEvent.ClientTickEvent event) {
+			if (!isActive())
+				return;
+
+			if (event.phase == Phase.START) {
+				tickStart = System.nanoTime();
+				return;
+			}
+
+			if (tickStart == 0)
+				return;
+			final long elapsed = System.nanoTime() - tickStart;
+			tickStart = 0;
+			tickTime += (elapsed - tickTime) >> AVG_SHIFT;
+
+			if (++ticks >= EVAL_TICKS) {
+				ticks = 0;
+				review();
+			}
+		}
+
+		@SubscribeEvent
+		public void renderTick(final TickEvent.RenderTickEvent event) {
+			if (event.phase != Phase.START)
+				return;
+
+			final long now = System.nanoTime();
+			final long elapsed = now - lastFrame;
+			lastFrame = now;
+
+			// Frames while paused or in a menu don't say anything about
+			// effect load. Neither does the first frame after a pause.
+			if (!isActive() || elapsed > 1000000000L)
+				return;
+
+			if (frameTime == 0)
+				frameTime = elapsed;
+			else
+				frameTime += (elapsed - frameTime) >> AVG_SHIFT;
+		}
+
+		@SubscribeEvent(priority = EventPriority.LOWEST)
+		public void diagnostics(final DiagnosticEvent.Gather event) {
+			event.output.add(String.format("Quality: %d [%d-%d] x%.3f (frame %.1f ms, tick %.1f ms)", level,
+					ModOptions.qualityMinLevel, ModOptions.qualityMaxLevel, SCALE[level], frameTime / 1000000.0F,
+					tickTime / 1000000.0F));
+		}
+	}
+
+	public static void initialize() {
+		MinecraftForge.EVENT_BUS.register(new EventHandler());
+	}
+}
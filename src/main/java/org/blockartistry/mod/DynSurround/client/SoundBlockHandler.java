@@ -24,19 +24,19 @@
 
 package org.blockartistry.mod.DynSurround.client;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.blockartistry.mod.DynSurround.ModLog;
 import org.blockartistry.mod.DynSurround.ModOptions;
 import org.blockartistry.mod.DynSurround.client.EnvironStateHandler.EnvironState;
 import org.blockartistry.mod.DynSurround.data.SoundRegistry;
 import org.blockartistry.mod.DynSurround.event.SoundConfigEvent;
 
+import gnu.trove.impl.Constants;
+import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.hash.TObjectIntHashMap;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.audio.SoundHandler;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.client.event.sound.PlaySoundEvent;
@@ -47,8 +47,17 @@ import net.minecraftforge.fml.relauncher.Side;
 @SideOnly(Side.CLIENT)
 public class SoundBlockHandler implements IClientEffectHandler {
 
-	private final List<String> soundsToBlock = new ArrayList<String>();
-	private final TObjectIntHashMap<String> soundCull = new TObjectIntHashMap<String>();
+	// Decisions kept per sound location. A positive value is a culled sound
+	// and indexes its slot in cullTimes.
+	private static final int UNKNOWN = Integer.MIN_VALUE;
+	private static final int PASS = 0;
+	private static final int BLOCK = -1;
+
+	private final TObjectIntHashMap<ResourceLocation> decisions = new TObjectIntHashMap<ResourceLocation>(
+			Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, UNKNOWN);
+
+	// Tick each culled sound was last let through, by slot
+	private final TIntArrayList cullTimes = new TIntArrayList();
 
 	public SoundBlockHandler() {
 	}
@@ -63,21 +72,46 @@ public class SoundBlockHandler implements IClientEffectHandler {
 		return true;
 	}
 
+	@Override
+	public int getPeriod() {
+		return 1;
+	}
+
+	@Override
+	public int getCost() {
+		return 0;
+	}
+
+	/*
+	 * Works out what to do with a sound from the compiled patterns in the
+	 * registry and records it so later plays of the sound only need the
+	 * lookup. Sounds registered after a reload are handled the first time
+	 * they are seen.
+	 */
+	private int decide(final ResourceLocation resource) {
+		final String rs = resource.toString();
+		final int decision;
+		if (SoundRegistry.isSoundBlocked(rs)) {
+			ModLog.debug("Blocking sound '%s'", rs);
+			decision = BLOCK;
+		} else if (SoundRegistry.isSoundCulled(rs)) {
+			ModLog.debug("Culling sound '%s'", rs);
+			this.cullTimes.add(-ModOptions.soundCullingThreshold);
+			decision = this.cullTimes.size();
+		} else {
+			decision = PASS;
+		}
+		this.decisions.put(resource, decision);
+		return decision;
+	}
+
 	@SubscribeEvent
 	public void soundConfigReload(final SoundConfigEvent.Reload event) {
-		this.soundsToBlock.clear();
-		this.soundCull.clear();
+		this.decisions.clear();
+		this.cullTimes.clear();
 		final SoundHandler handler = Minecraft.getMinecraft().getSoundHandler();
-		for (final Object resource : handler.sndRegistry.getKeys()) {
-			final String rs = resource.toString();
-			if (SoundRegistry.isSoundBlocked(rs)) {
-				ModLog.debug("Blocking sound '%s'", rs);
-				this.soundsToBlock.add(rs);
-			} else if (SoundRegistry.isSoundCulled(rs)) {
-				ModLog.debug("Culling sound '%s'", rs);
-				this.soundCull.put(rs, -ModOptions.soundCullingThreshold);
-			}
-		}
+		for (final Object resource : handler.sndRegistry.getKeys())
+			decide((ResourceLocation) resource);
 	}
 
 	@SubscribeEvent(priority = EventPriority.HIGHEST)
@@ -85,8 +119,15 @@ public class SoundBlockHandler implements IClientEffectHandler {
 		if (event.sound == null)
 			return;
 
-		final String resource = event.sound.getSoundLocation().toString();
-		if (this.soundsToBlock.contains(resource)) {
+		final ResourceLocation resource = event.sound.getSoundLocation();
+		int decision = this.decisions.get(resource);
+		if (decision == UNKNOWN)
+			decision = decide(resource);
+
+		if (decision == PASS)
+			return;
+
+		if (decision == BLOCK) {
 			event.result = null;
 			return;
 		}
@@ -95,15 +136,13 @@ public class SoundBlockHandler implements IClientEffectHandler {
 			return;
 
 		// Get the last time the sound was seen
-		final int lastOccurance = this.soundCull.get(resource);
-		if (lastOccurance == 0)
-			return;
-
+		final int slot = decision - 1;
+		final int lastOccurance = this.cullTimes.get(slot);
 		final int currentTick = EnvironState.getTickCounter();
 		if ((currentTick - lastOccurance) < ModOptions.soundCullingThreshold) {
 			event.result = null;
 		} else {
-			this.soundCull.put(resource, currentTick);
+			this.cullTimes.set(slot, currentTick);
 		}
 	}
 }
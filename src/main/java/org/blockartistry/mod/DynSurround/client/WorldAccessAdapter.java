@@ -0,0 +1,93 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.IWorldAccess;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/*
+ * No-op IWorldAccess so listeners only need to override the notifications
+ * they care about. Chunk data arriving from the server comes through as a
+ * render range update.
+ */
+@SideOnly(Side.CLIENT)
+public abstract class WorldAccessAdapter implements IWorldAccess {
+
+	@Override
+	public void markBlockForUpdate(final BlockPos pos) {
+	}
+
+	@Override
+	public void markBlockRangeForRenderUpdate(final int x1, final int y1, final int z1, final int x2, final int y2,
+			final int z2) {
+	}
+
+	@Override
+	public void notifyLightSet(final BlockPos pos) {
+	}
+
+	@Override
+	public void playSound(final String soundName, final double x, final double y, final double z, final float volume,
+			final float pitch) {
+	}
+
+	@Override
+	public void playSoundToNearExcept(final EntityPlayer except, final String soundName, final double x,
+			final double y, final double z, final float volume, final float pitch) {
+	}
+
+	@Override
+	public void spawnParticle(final int particleID, final boolean ignoreRange, final double xCoord,
+			final double yCoord, final double zCoord, final double xOffset, final double yOffset,
+			final double zOffset, final int... parameters) {
+	}
+
+	@Override
+	public void onEntityAdded(final Entity entity) {
+	}
+
+	@Override
+	public void onEntityRemoved(final Entity entity) {
+	}
+
+	@Override
+	public void playRecord(final String recordName, final BlockPos pos) {
+	}
+
+	@Override
+	public void broadcastSound(final int soundID, final BlockPos pos, final int data) {
+	}
+
+	@Override
+	public void playAuxSFX(final EntityPlayer player, final int sfxType, final BlockPos pos, final int data) {
+	}
+
+	@Override
+	public void sendBlockBreakProgress(final int breakerId, final BlockPos pos, final int progress) {
+	}
+}
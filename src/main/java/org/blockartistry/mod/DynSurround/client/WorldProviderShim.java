@@ -47,6 +47,7 @@ import net.minecraftforge.fml.relauncher.Side;
 public class WorldProviderShim extends WorldProvider {
 
 	protected final WorldProvider provider;
+	private final Color cloudColor = new Color(0, 0, 0);
 
 	public WorldProviderShim(final World world, final WorldProvider provider) {
 		this.provider = provider;
@@ -238,13 +239,13 @@ public class WorldProviderShim extends WorldProvider {
 
 	@SideOnly(Side.CLIENT)
 	public Vec3 drawClouds(float partialTicks) {
-		final Color color = new Color(this.provider.drawClouds(partialTicks));
+		final Vec3 color = this.provider.drawClouds(partialTicks);
 		final float stormIntensity = this.worldObj.getRainStrength(1.0F);
 		if (stormIntensity > 0.0F) {
 			// Need to darken the clouds based on intensity
-			color.scale((1.0F - stormIntensity) * 0.5F + 0.5F);
+			return this.cloudColor.set(color).scale((1.0F - stormIntensity) * 0.5F + 0.5F).toVec3();
 		}
-		return color.toVec3();
+		return color;
 	}
 
 	@SideOnly(Side.CLIENT)
@@ -48,10 +48,14 @@ public final class Aurora {
 	private static final float AURORA_AMPLITUDE = 18.0F;
 	private static final float AURORA_WAVELENGTH = 8.0F;
 
+	private static final float COS_DEG90_FACTOR = MathStuff.cos(MathStuff.PI_F / 2.0F);
+	private static final float COS_DEG270_FACTOR = MathStuff.cos(MathStuff.PI_F / 2.0F + MathStuff.PI_F);
+	private static final float SIN_DEG90_FACTOR = MathStuff.sin(MathStuff.PI_F / 2.0F);
+	private static final float SIN_DEG270_FACTOR = MathStuff.sin(MathStuff.PI_F / 2.0F + MathStuff.PI_F);
+
 	public float posX;
 	public float posZ;
 
-	private Node[][] bands;
 	private long seed;
 	private float cycle = 0.0F;
 	private int fadeTimer = 0;
@@ -60,6 +64,30 @@ public final class Aurora {
 	private float nodeLength;
 	private float nodeWidth;
 	private int bandOffset;
+	private int bandCount;
+
+	// Node data for all bands; node i of band b is at b * length + i. Only Y
+	// and Z are animated so the X coordinates are fixed.
+	private float[] nodeX;
+	private float[] nodeY;
+	private float[] nodeZ;
+	private float[] tetX;
+	private float[] tetX2;
+	private float[] tetOffsetZ;
+	private float[] tetOffsetZ2;
+
+	// Animated values, updated by translate()
+	private float[] moddedY;
+	private float[] moddedZ;
+	private float[] tetZ;
+	private float[] tetZ2;
+
+	// Travelling wave, shared by all bands. The cos/sin of each node's phase
+	// are fixed so a frame only needs the cos/sin of the cycle.
+	private float[] phaseCos;
+	private float[] phaseSin;
+	private float[] waveY;
+	private float[] waveZ;
 
 	// Base color of the aurora
 	private final Color baseColor;
@@ -88,8 +116,44 @@ public final class Aurora {
 		translate(0);
 	}
 
-	public Node[][] getNodeList() {
-		return this.bands;
+	public int getBandCount() {
+		return this.bandCount;
+	}
+
+	public int getNodeCount() {
+		return this.length;
+	}
+
+	/*
+	 * The following return the node arrays for all bands. Node i of band b is
+	 * at b * getNodeCount() + i. The arrays are not to be modified.
+	 */
+	public float[] getNodeX() {
+		return this.nodeX;
+	}
+
+	public float[] getNodeY() {
+		return this.moddedY;
+	}
+
+	public float[] getNodeZ() {
+		return this.moddedZ;
+	}
+
+	public float[] getTetX() {
+		return this.tetX;
+	}
+
+	public float[] getTetZ() {
+		return this.tetZ;
+	}
+
+	public float[] getTetX2() {
+		return this.tetX2;
+	}
+
+	public float[] getTetZ2() {
+		return this.tetZ2;
 	}
 
 	private void preset(final int preset) {
@@ -135,14 +199,25 @@ public final class Aurora {
 	}
 
 	private void generateBands() {
-		this.bands = new Node[MULTIPLES ? 3 : 1][];
-		final Node[] band0 = this.bands[0] = populate();
-		final Node[] band1, band2;
-		if (this.bands.length > 1) {
-			band1 = this.bands[1] = populateFromTemplate(this.bands[0], this.bandOffset);
-			band2 = this.bands[2] = populateFromTemplate(this.bands[0], -this.bandOffset);
-		} else {
-			band1 = band2 = null;
+		this.bandCount = MULTIPLES ? 3 : 1;
+		final int total = this.bandCount * this.length;
+		this.nodeX = new float[total];
+		this.nodeY = new float[total];
+		this.nodeZ = new float[total];
+		this.tetX = new float[total];
+		this.tetX2 = new float[total];
+		this.tetOffsetZ = new float[total];
+		this.tetOffsetZ2 = new float[total];
+		this.moddedY = new float[total];
+		this.moddedZ = new float[total];
+		this.tetZ = new float[total];
+		this.tetZ2 = new float[total];
+
+		final float[] angle = new float[this.length];
+		populate(angle);
+		if (this.bandCount > 1) {
+			populateFromTemplate(angle, 1, this.bandOffset);
+			populateFromTemplate(angle, 2, -this.bandOffset);
 		}
 
 		final float factor = MathStuff.PI_F / (this.length / 4);
@@ -162,23 +237,54 @@ public final class Aurora {
 				width = this.nodeWidth;
 			}
 
-			band0[i].setWidth(width);
-			if (band1 != null) {
-				band1[i].setWidth(width);
-				band2[i].setWidth(width);
+			// The end nodes of a band have no width
+			final boolean end = i == 0 || i == this.length - 1;
+			for (int b = 0; b < this.bandCount; b++) {
+				final int j = b * this.length + i;
+				if (end) {
+					this.tetX[j] = this.tetX2[j] = this.nodeX[j];
+				} else {
+					this.tetX[j] = this.nodeX[j] + COS_DEG90_FACTOR * width;
+					this.tetX2[j] = this.nodeX[j] + COS_DEG270_FACTOR * width;
+					this.tetOffsetZ[j] = SIN_DEG90_FACTOR * width;
+					this.tetOffsetZ2[j] = SIN_DEG270_FACTOR * width;
+				}
 			}
 		}
+
+		this.phaseCos = new float[this.length];
+		this.phaseSin = new float[this.length];
+		this.waveY = new float[this.length];
+		this.waveZ = new float[this.length];
+		for (int i = 0; i < this.length; i++) {
+			final float phase = MathStuff.toRadians(AURORA_WAVELENGTH * i);
+			this.phaseCos[i] = MathStuff.cos(phase);
+			this.phaseSin[i] = MathStuff.sin(phase);
+		}
 	}
 
-	private static Node[] populateFromTemplate(final Node[] template, final int offset) {
-		final Node[] tet = new Node[template.length];
-		for (int i = 0; i < template.length; i++)
-			tet[i] = new Node(template[i], offset);
-		return tet;
+	/*
+	 * Places a band alongside band 0, shifted sideways by offset and a little
+	 * lower.
+	 */
+	private void populateFromTemplate(final float[] angle, final int band, final int offset) {
+		final int base = band * this.length;
+		for (int i = 0; i < this.length; i++) {
+			final float rads = MathStuff.toRadians(90.0F + angle[i]);
+			this.nodeX[base + i] = this.nodeX[i] + MathStuff.cos(rads) * offset;
+			this.nodeY[base + i] = this.nodeY[i] - 2.0F;
+			this.nodeZ[base + i] = this.nodeZ[i] + MathStuff.sin(rads) * offset;
+		}
 	}
 
-	private Node[] populate() {
-		final Node[] nodeList = new Node[this.length];
+	/*
+	 * Generates band 0. The band is grown outwards from the middle in both
+	 * directions.
+	 */
+	private void populate(final float[] nodeAngle) {
+		final float[] x = this.nodeX;
+		final float[] y = this.nodeY;
+		final float[] z = this.nodeZ;
 		final XorShiftRandom nodeRand = new XorShiftRandom(this.seed);
 		final int bound = this.length / 2 - 1;
 
@@ -194,21 +300,22 @@ public final class Aurora {
 			for (int k = 7; k >= 0; k--) {
 				final int idx = i * 8 + k;
 				if (idx == bound) {
-					nodeList[idx] = new Node(0.0F, 7.0F + nodeRand.nextFloat(), 0.0F, angle);
+					x[idx] = 0.0F;
+					y[idx] = 7.0F + nodeRand.nextFloat();
+					z[idx] = 0.0F;
+					nodeAngle[idx] = angle;
 				} else {
-					float y;
 					if (i == 0)
-						y = MathStuff.sin(ANGLE1 * k) * 7.0F + nodeRand.nextFloat() / 2.0F;
+						y[idx] = MathStuff.sin(ANGLE1 * k) * 7.0F + nodeRand.nextFloat() / 2.0F;
 					else
-						y = 10.0F + nodeRand.nextFloat() * 5.0F;
+						y[idx] = 10.0F + nodeRand.nextFloat() * 5.0F;
 
-					final Node node = nodeList[idx + 1];
-					final float subAngle = node.angle + angle;
+					final int next = idx + 1;
+					final float subAngle = nodeAngle[next] + angle;
 					final float subAngleRads = MathStuff.toRadians(subAngle);
-					final float z = node.posZ - (MathStuff.sin(subAngleRads) * this.nodeLength);
-					final float x = node.posX - (MathStuff.cos(subAngleRads) * this.nodeLength);
-
-					nodeList[idx] = new Node(x, y, z, subAngle);
+					z[idx] = z[next] - (MathStuff.sin(subAngleRads) * this.nodeLength);
+					x[idx] = x[next] - (MathStuff.cos(subAngleRads) * this.nodeLength);
+					nodeAngle[idx] = subAngle;
 				}
 			}
 		}
@@ -222,67 +329,48 @@ public final class Aurora {
 				angleTotal += angle;
 			}
 			for (int h = 0; h < 8; h++) {
-				float y;
+				final int idx = j * 8 + h;
 				if (j == this.length / 8 - 1)
-					y = MathStuff.cos(ANGLE2 * h) * 7.0F + nodeRand.nextFloat() / 2.0F;
+					y[idx] = MathStuff.cos(ANGLE2 * h) * 7.0F + nodeRand.nextFloat() / 2.0F;
 				else
-					y = 10.0F + nodeRand.nextFloat() * 5.0F;
+					y[idx] = 10.0F + nodeRand.nextFloat() * 5.0F;
 
-				final Node node = nodeList[j * 8 + h - 1];
-				final float subAngle = node.angle + angle;
+				final int prev = idx - 1;
+				final float subAngle = nodeAngle[prev] + angle;
 				final float subAngleRads = MathStuff.toRadians(subAngle);
-				final float z = node.posZ + (MathStuff.sin(subAngleRads) * this.nodeLength);
-				final float x = node.posX + (MathStuff.cos(subAngleRads) * this.nodeLength);
-
-				nodeList[j * 8 + h] = new Node(x, y, z, subAngle);
+				z[idx] = z[prev] + (MathStuff.sin(subAngleRads) * this.nodeLength);
+				x[idx] = x[prev] + (MathStuff.cos(subAngleRads) * this.nodeLength);
+				nodeAngle[idx] = subAngle;
 			}
 		}
-
-		return nodeList;
 	}
 
 	/*
 	 * Calculates the next "frame" of the aurora if it is being animated.
 	 */
 	public void translate(final float partialTick) {
-		final Node[] nodeList = this.bands[0];
-		Node[] second = null;
-		Node[] third = null;
-		if (this.bands.length > 1) {
-			second = this.bands[1];
-			third = this.bands[2];
+		// Travelling sine wave: https://en.wikipedia.org/wiki/Wavelength
+		// cos(phase + c) expanded so only c needs a lookup.
+		final float c = MathStuff.toRadians(this.cycle + AURORA_SPEED * partialTick);
+		final float cosC = MathStuff.cos(c);
+		final float sinC = MathStuff.sin(c);
+		for (int i = 0; i < this.length; i++) {
+			final float f = this.phaseCos[i] * cosC - this.phaseSin[i] * sinC;
+			this.waveZ[i] = f * AURORA_AMPLITUDE;
+			this.waveY[i] = f * 3.0F;
 		}
 
-		final float c = this.cycle + AURORA_SPEED * partialTick;
-		for (int i = 0; i < nodeList.length; i++) {
-			// Travelling sine wave: https://en.wikipedia.org/wiki/Wavelength
-			final float f = MathStuff.cos(MathStuff.toRadians(AURORA_WAVELENGTH * i + c));
-			final float dZ = f * AURORA_AMPLITUDE;
-			final float dY = f * 3.0F;
-			Node node = nodeList[i];
-			node.setDeltaZ(dZ);
-			node.setDeltaY(dY);
-			if (second != null) {
-				node = second[i];
-				node.setDeltaZ(dZ);
-				node.setDeltaY(dY);
-
-				node = third[i];
-				node.setDeltaZ(dZ);
-				node.setDeltaY(dY);
+		for (int b = 0; b < this.bandCount; b++) {
+			final int base = b * this.length;
+			for (int i = 0; i < this.length; i++) {
+				final int j = base + i;
+				final float y = this.nodeY[j] + this.waveY[i];
+				final float z = this.nodeZ[j] + this.waveZ[i];
+				this.moddedY[j] = y < 0.0F ? 0.0F : y;
+				this.moddedZ[j] = z;
+				this.tetZ[j] = z + this.tetOffsetZ[j];
+				this.tetZ2[j] = z + this.tetOffsetZ2[j];
 			}
 		}
-		findAngles(nodeList);
-		if (second != null) {
-			findAngles(second);
-			findAngles(third);
-		}
-	}
-
-	private static void findAngles(final Node[] nodeList) {
-		nodeList[0].findAngles(null);
-		for (int i = 1; i < nodeList.length - 1; i++)
-			nodeList[i].findAngles(nodeList[i + 1]);
-		nodeList[nodeList.length - 1].findAngles(null);
 	}
 }
@@ -0,0 +1,138 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client.aurora;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/*
+ * Builds the aurora bands as a single triangle list. Each vertex is seven
+ * floats: x, y, z followed by r, g, b, a. The colors are set once per frame;
+ * segments only supply positions. There is no GL in here - the renderer
+ * hands the buffer to glDrawArrays.
+ */
+public final class AuroraGeometry {
+
+	public static final int VERTEX_FLOATS = 7;
+	public static final int STRIDE = VERTEX_FLOATS * 4;
+	public static final int COLOR_OFFSET = 3;
+
+	// Front, bottom and back faces of two triangles each
+	public static final int VERTICES_PER_SEGMENT = 18;
+
+	private FloatBuffer buffer = allocate(64);
+	private int vertexCount;
+
+	private float baseRed;
+	private float baseGreen;
+	private float baseBlue;
+	private float baseAlpha;
+	private float fadeRed;
+	private float fadeGreen;
+	private float fadeBlue;
+
+	private static FloatBuffer allocate(final int segments) {
+		final int floats = segments * VERTICES_PER_SEGMENT * VERTEX_FLOATS;
+		return ByteBuffer.allocateDirect(floats * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+	}
+
+	public void begin(final int segments) {
+		if (this.buffer.capacity() < segments * VERTICES_PER_SEGMENT * VERTEX_FLOATS)
+			this.buffer = allocate(segments);
+		this.buffer.clear();
+		this.vertexCount = 0;
+	}
+
+	/*
+	 * The base color is used at the foot of the band and fades to a fully
+	 * transparent fade color at the top.
+	 */
+	public void setColors(final float baseRed, final float baseGreen, final float baseBlue, final float baseAlpha,
+			final float fadeRed, final float fadeGreen, final float fadeBlue) {
+		this.baseRed = baseRed;
+		this.baseGreen = baseGreen;
+		this.baseBlue = baseBlue;
+		this.baseAlpha = baseAlpha;
+		this.fadeRed = fadeRed;
+		this.fadeGreen = fadeGreen;
+		this.fadeBlue = fadeBlue;
+	}
+
+	/*
+	 * Adds the segment between two nodes. (posX, posZ) and (tetX, tetZ) are the
+	 * front and back edges at the first node, and the "2" values the same at
+	 * the second. The faces rise to posY/posY2.
+	 */
+	public void addSegment(final float posX, final float posZ, final float tetX, final float tetZ, final float posY,
+			final float posX2, final float posZ2, final float tetX2, final float tetZ2, final float posY2) {
+		// Front
+		base(posX, posZ);
+		fade(posX, posY, posZ);
+		fade(posX2, posY2, posZ2);
+		base(posX, posZ);
+		fade(posX2, posY2, posZ2);
+		base(posX2, posZ2);
+
+		// Bottom
+		base(posX, posZ);
+		base(posX2, posZ2);
+		base(tetX2, tetZ2);
+		base(posX, posZ);
+		base(tetX2, tetZ2);
+		base(tetX, tetZ);
+
+		// Back
+		base(tetX, tetZ);
+		fade(tetX, posY, tetZ);
+		fade(tetX2, posY2, tetZ2);
+		base(tetX, tetZ);
+		fade(tetX2, posY2, tetZ2);
+		base(tetX2, tetZ2);
+	}
+
+	private void base(final float x, final float z) {
+		this.buffer.put(x).put(0.0F).put(z).put(this.baseRed).put(this.baseGreen).put(this.baseBlue)
+				.put(this.baseAlpha);
+		this.vertexCount++;
+	}
+
+	private void fade(final float x, final float y, final float z) {
+		this.buffer.put(x).put(y).put(z).put(this.fadeRed).put(this.fadeGreen).put(this.fadeBlue).put(0.0F);
+		this.vertexCount++;
+	}
+
+	/*
+	 * Finishes the frame. The returned buffer is positioned at the first
+	 * vertex.
+	 */
+	public FloatBuffer end() {
+		this.buffer.flip();
+		return this.buffer;
+	}
+
+	public int getVertexCount() {
+		return this.vertexCount;
+	}
+}
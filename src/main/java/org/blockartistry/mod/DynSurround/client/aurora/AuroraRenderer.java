@@ -24,12 +24,11 @@
 
 package org.blockartistry.mod.DynSurround.client.aurora;
 
+import java.nio.FloatBuffer;
+
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.EntityRenderer;
 import net.minecraft.client.renderer.GlStateManager;
-import net.minecraft.client.renderer.Tessellator;
-import net.minecraft.client.renderer.WorldRenderer;
-import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -61,6 +60,43 @@ public final class AuroraRenderer implements IAtmosRenderer {
 		return MathHelper.clamp_float(moonFactor * moonFactor, 0.0F, 1.0F);
 	}
 
+	private static final AuroraGeometry geometry = new AuroraGeometry();
+
+	/*
+	 * Emits the front, bottom and back faces of every band segment into one
+	 * triangle list.
+	 */
+	private static FloatBuffer buildGeometry(final Aurora aurora, final float alpha) {
+		final int bands = aurora.getBandCount();
+		final int length = aurora.getNodeCount();
+		final float[] x = aurora.getNodeX();
+		final float[] y = aurora.getNodeY();
+		final float[] z = aurora.getNodeZ();
+		final float[] tetX = aurora.getTetX();
+		final float[] tetZ = aurora.getTetZ();
+		final float[] tetX2 = aurora.getTetX2();
+		final float[] tetZ2 = aurora.getTetZ2();
+
+		final Color base = aurora.getBaseColor();
+		final Color fade = aurora.getFadeColor();
+		geometry.begin(bands * (length - 1));
+		geometry.setColors(base.red, base.green, base.blue, alpha, fade.red, fade.green, fade.blue);
+
+		for (int b = 0; b < bands; b++) {
+			final int start = b * length;
+			final int last = start + length - 2;
+			for (int j = start; j < last; j++) {
+				final int k = j + 1;
+				geometry.addSegment(tetX[j], tetZ[j], tetX2[j], tetZ2[j], y[j], tetX[k], tetZ[k], tetX2[k], tetZ2[k],
+						y[k]);
+			}
+			geometry.addSegment(tetX[last], tetZ[last], tetX2[last], tetZ2[last], y[last], x[last], z[last], x[last],
+					z[last], 0.0F);
+		}
+
+		return geometry.end();
+	}
+
 	public static void renderAurora(final float partialTick, final Aurora aurora) {
 
 		final Minecraft mc = FMLClientHandler.instance().getClient();
@@ -68,8 +104,6 @@ public final class AuroraRenderer implements IAtmosRenderer {
 		if (alpha <= 0.0F)
 			return;
 
-		final Tessellator tess = Tessellator.getInstance();
-		final WorldRenderer renderer = tess.getWorldRenderer();
 		final float tranY;
 		if (ModOptions.auroraHeightPlayerRelative) {
 			// Fix height above player
@@ -89,10 +123,6 @@ public final class AuroraRenderer implements IAtmosRenderer {
 		if (ModOptions.auroraAnimate)
 			aurora.translate(partialTick);
 
-		final Color base = aurora.getBaseColor();
-		final Color fade = aurora.getFadeColor();
-		final double zero = 0.0D;
-
 		GlStateManager.pushMatrix();
 		GlStateManager.translate((float) tranX, tranY, (float) tranZ);
 		GlStateManager.scale(0.5D, 8.0D, 0.5D);
@@ -104,61 +134,17 @@ public final class AuroraRenderer implements IAtmosRenderer {
 		GlStateManager.disableCull();
 		GlStateManager.depthMask(false);
 
-		for (final Node[] array : aurora.getNodeList()) {
-			for (int i = 0; i < array.length - 1; i++) {
-
-				final Node node = array[i];
-
-				final double posY = node.getModdedY();
-				final double posX = node.tetX;
-				final double posZ = node.tetZ;
-				final double tetX = node.tetX2;
-				final double tetZ = node.tetZ2;
-
-				final double posX2;
-				final double posZ2;
-				final double tetX2;
-				final double tetZ2;
-				final double posY2;
-
-				if (i < array.length - 2) {
-					final Node nodePlus = array[i + 1];
-					posX2 = nodePlus.tetX;
-					posZ2 = nodePlus.tetZ;
-					tetX2 = nodePlus.tetX2;
-					tetZ2 = nodePlus.tetZ2;
-					posY2 = nodePlus.getModdedY();
-				} else {
-					posX2 = tetX2 = node.posX;
-					posZ2 = tetZ2 = node.getModdedZ();
-					posY2 = 0.0D;
-				}
-
-				// Front
-				renderer.begin(GL11.GL_TRIANGLE_FAN, DefaultVertexFormats.POSITION_COLOR);
-				renderer.pos(posX, zero, posZ).color(base.red, base.green, base.blue, alpha).endVertex();
-				renderer.pos(posX, posY, posZ).color(fade.red, fade.green, fade.blue, 0).endVertex();
-				renderer.pos(posX2, posY2, posZ2).color(fade.red, fade.green, fade.blue, 0).endVertex();
-				renderer.pos(posX2, zero, posZ2).color(base.red, base.green, base.blue, alpha).endVertex();
-				tess.draw();
-
-				// Bottom
-				renderer.begin(GL11.GL_TRIANGLE_FAN, DefaultVertexFormats.POSITION_COLOR);
-				renderer.pos(posX, zero, posZ).color(base.red, base.green, base.blue, alpha).endVertex();
-				renderer.pos(posX2, zero, posZ2).color(base.red, base.green, base.blue, alpha).endVertex();
-				renderer.pos(tetX2, zero, tetZ2).color(base.red, base.green, base.blue, alpha).endVertex();
-				renderer.pos(tetX, zero, tetZ).color(base.red, base.green, base.blue, alpha).endVertex();
-				tess.draw();
-
-				// Back
-				renderer.begin(GL11.GL_TRIANGLE_FAN, DefaultVertexFormats.POSITION_COLOR);
-				renderer.pos(tetX, zero, tetZ).color(base.red, base.green, base.blue, alpha).endVertex();
-				renderer.pos(tetX, posY, tetZ).color(fade.red, fade.green, fade.blue, 0).endVertex();
-				renderer.pos(tetX2, posY2, tetZ2).color(fade.red, fade.green, fade.blue, 0).endVertex();
-				renderer.pos(tetX2, zero, tetZ2).color(base.red, base.green, base.blue, alpha).endVertex();
-				tess.draw();
-			}
-		}
+		final FloatBuffer buffer = buildGeometry(aurora, alpha);
+		GL11.glEnableClientState(GL11.GL_VERTEX_ARRAY);
+		GL11.glEnableClientState(GL11.GL_COLOR_ARRAY);
+		buffer.position(0);
+		GL11.glVertexPointer(3, AuroraGeometry.STRIDE, buffer);
+		buffer.position(AuroraGeometry.COLOR_OFFSET);
+		GL11.glColorPointer(4, AuroraGeometry.STRIDE, buffer);
+		GL11.glDrawArrays(GL11.GL_TRIANGLES, 0, geometry.getVertexCount());
+		GL11.glDisableClientState(GL11.GL_COLOR_ARRAY);
+		GL11.glDisableClientState(GL11.GL_VERTEX_ARRAY);
+		GlStateManager.resetColor();
 
 		GlStateManager.scale(3.5D, 25.0D, 3.5D);
 		GlStateManager.depthMask(true);
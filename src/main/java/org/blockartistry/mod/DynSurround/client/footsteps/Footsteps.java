@@ -222,6 +222,16 @@ public class Footsteps implements IResourceManagerReloadListener, IClientEffectH
 		return false;
 	}
 
+	@Override
+	public int getPeriod() {
+		return 1;
+	}
+
+	@Override
+	public int getCost() {
+		return 100;
+	}
+
 	public IBlockMap getBlockMap() {
 		return this.isolator.getBlockMap();
 	}
@@ -24,10 +24,8 @@
 
 package org.blockartistry.mod.DynSurround.client.footsteps.mcpackage.implem;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Locale;
+import java.util.PriorityQueue;
 import java.util.Random;
 
 import org.blockartistry.mod.DynSurround.ModLog;
@@ -58,14 +56,14 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 public class AcousticsManager extends AcousticsLibrary implements ISoundPlayer, IDefaultStepPlayer {
 
 	private static final Random RANDOM = new XorShiftRandom();
-	private static final boolean USING_LATENESS = true;
-	private static final boolean USING_EARLYNESS = true;
-	private static final float LATENESS_THRESHOLD_DIVIDER = 1.5f;
-	private static final double EARLYNESS_THRESHOLD_POW = 0.75d;
 
-	private final List<PendingSound> pending = new ArrayList<PendingSound>();
+	// Delayed sounds ordered by the earliest time they can be played
+	private final PriorityQueue<PendingSound> pending = new PriorityQueue<PendingSound>();
 	private final IIsolator isolator;
-	private long minimum;
+
+	// The clock is read once per pass and cleared by think()
+	private long clock;
+	private boolean haveClock;
 
 	public AcousticsManager(final IIsolator isolator) {
 		this.isolator = isolator;
@@ -97,13 +95,8 @@ public class AcousticsManager extends AcousticsLibrary implements ISoundPlayer,
 				long delay = randAB(RANDOM, (Long) options.getOption(Option.DELAY_MIN),
 						(Long) options.getOption(Option.DELAY_MAX));
 
-				if (delay < minimum) {
-					minimum = delay;
-				}
-
-				pending.add(
-						new PendingSound(location, soundName, volume, pitch, null, System.currentTimeMillis() + delay,
-								options.hasOption(Option.SKIPPABLE) ? -1 : (Long) options.getOption(Option.DELAY_MAX)));
+				pending.add(new PendingSound(location, soundName, volume, pitch, null, now() + delay,
+						options.hasOption(Option.SKIPPABLE) ? -1 : (Long) options.getOption(Option.DELAY_MAX)));
 			} else {
 				actuallyPlaySound((Entity) location, soundName, volume, pitch);
 			}
@@ -120,6 +113,14 @@ public class AcousticsManager extends AcousticsLibrary implements ISoundPlayer,
 		location.playSound(soundName, volume, pitch);
 	}
 
+	private long now() {
+		if (!this.haveClock) {
+			this.clock = System.currentTimeMillis();
+			this.haveClock = true;
+		}
+		return this.clock;
+	}
+
 	private long randAB(final Random rng, final long a, final long b) {
 		return a >= b ? a : a + rng.nextInt((int) b + 1);
 	}
@@ -131,39 +132,22 @@ public class AcousticsManager extends AcousticsLibrary implements ISoundPlayer,
 
 	@Override
 	public void think() {
-		if (pending.isEmpty() || System.currentTimeMillis() < minimum)
-			return;
-
-		long newMinimum = Long.MAX_VALUE;
-		long time = System.currentTimeMillis();
-
-		Iterator<PendingSound> iter = pending.iterator();
-		while (iter.hasNext()) {
-			PendingSound sound = iter.next();
-
-			if (time >= sound.getTimeToPlay() || USING_EARLYNESS
-					&& time >= sound.getTimeToPlay() - Math.pow(sound.getMaximumBase(), EARLYNESS_THRESHOLD_POW)) {
-				if (ModLog.DEBUGGING && USING_EARLYNESS && time < sound.getTimeToPlay()) {
-					ModLog.debug("    Playing early sound (early by " + (sound.getTimeToPlay() - time)
-							+ "ms, tolerence is " + Math.pow(sound.getMaximumBase(), EARLYNESS_THRESHOLD_POW));
-				}
-
-				long lateness = time - sound.getTimeToPlay();
-				if (!USING_LATENESS || sound.getMaximumBase() < 0
-						|| lateness <= sound.getMaximumBase() / LATENESS_THRESHOLD_DIVIDER) {
+		if (!pending.isEmpty()) {
+			final long time = now();
+			PendingSound sound;
+			while ((sound = pending.peek()) != null && time >= sound.getEarliestTime()) {
+				pending.poll();
+				if (time <= sound.getLatestTime()) {
+					if (ModLog.DEBUGGING && time < sound.getTimeToPlay())
+						ModLog.debug("    Playing early sound (early by " + (sound.getTimeToPlay() - time) + "ms)");
 					sound.playSound(this);
-				} else {
-					if (ModLog.DEBUGGING)
-						ModLog.debug("    Skipped late sound (late by " + lateness + "ms, tolerence is "
-								+ sound.getMaximumBase() / LATENESS_THRESHOLD_DIVIDER + "ms)");
+				} else if (ModLog.DEBUGGING) {
+					ModLog.debug("    Skipped late sound (late by " + (time - sound.getTimeToPlay()) + "ms)");
 				}
-				iter.remove();
-			} else {
-				newMinimum = sound.getTimeToPlay();
 			}
 		}
 
-		minimum = newMinimum;
+		this.haveClock = false;
 	}
 
 	@Override
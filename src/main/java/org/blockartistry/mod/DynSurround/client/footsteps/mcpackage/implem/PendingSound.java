@@ -31,7 +31,13 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 @SideOnly(Side.CLIENT)
-public class PendingSound {
+public class PendingSound implements Comparable<PendingSound> {
+
+	private static final boolean USING_LATENESS = true;
+	private static final boolean USING_EARLYNESS = true;
+	private static final float LATENESS_THRESHOLD_DIVIDER = 1.5f;
+	private static final double EARLYNESS_THRESHOLD_POW = 0.75d;
+
 	private final Object location;
 	private final String soundName;
 	private final float volume;
@@ -39,6 +45,8 @@ public class PendingSound {
 	private final IOptions options;
 	private final long timeToPlay;
 	private final long maximum;
+	private final long earliest;
+	private final long latest;
 
 	public PendingSound(final Object location, final String soundName, final float volume, final float pitch,
 			final IOptions options, final long timeToPlay, final long maximum) {
@@ -50,6 +58,19 @@ public class PendingSound {
 
 		this.timeToPlay = timeToPlay;
 		this.maximum = maximum;
+
+		// The tolerances only depend on the maximum delay so they are worked
+		// out once here rather than each time the queue is checked. A
+		// negative maximum marks a sound that is neither early nor skipped.
+		if (USING_EARLYNESS && maximum >= 0)
+			this.earliest = timeToPlay - (long) Math.pow(maximum, EARLYNESS_THRESHOLD_POW);
+		else
+			this.earliest = timeToPlay;
+
+		if (USING_LATENESS && maximum >= 0)
+			this.latest = timeToPlay + (long) (maximum / LATENESS_THRESHOLD_DIVIDER);
+		else
+			this.latest = Long.MAX_VALUE;
 	}
 
 	/**
@@ -79,4 +100,27 @@ public class PendingSound {
 	public long getMaximumBase() {
 		return this.maximum;
 	}
+
+	/**
+	 * Returns the earliest time the sound may be played.
+	 * 
+	 * @return
+	 */
+	public long getEarliestTime() {
+		return this.earliest;
+	}
+
+	/**
+	 * Returns the latest time the sound may be played before it is skipped.
+	 * 
+	 * @return
+	 */
+	public long getLatestTime() {
+		return this.latest;
+	}
+
+	@Override
+	public int compareTo(final PendingSound o) {
+		return this.earliest < o.earliest ? -1 : this.earliest > o.earliest ? 1 : 0;
+	}
 }
@@ -24,11 +24,13 @@
 
 package org.blockartistry.mod.DynSurround.client.fx;
 
-import java.util.List;
 import java.util.Random;
 
 import org.blockartistry.mod.DynSurround.ModOptions;
 import org.blockartistry.mod.DynSurround.client.EnvironStateHandler.EnvironState;
+import org.blockartistry.mod.DynSurround.client.QualityGovernor;
+import org.blockartistry.mod.DynSurround.client.fx.particle.ParticleBudget;
+import org.blockartistry.mod.DynSurround.client.fx.particle.ParticleBudget.Category;
 import org.blockartistry.mod.DynSurround.client.sound.SoundEffect;
 import org.blockartistry.mod.DynSurround.compat.MCHelper;
 import org.blockartistry.mod.DynSurround.client.IClientEffectHandler;
@@ -59,8 +61,8 @@ public class BlockEffectHandler implements IClientEffectHandler {
 			return;
 
 		final BlockPos playerPos = new BlockPos(player);
-		final String conditions = EnvironState.getConditions();
-		final int RANGE = ModOptions.specialEffectRange;
+		final long conditions = EnvironState.getConditionMask();
+		final int RANGE = QualityGovernor.scale(ModOptions.specialEffectRange, 8);
 		final int CHECK_COUNT = (int) (Math.pow(RANGE * 2 - 1, 3) * RATIO);
 
 		for (int i = 0; i < CHECK_COUNT; i++) {
@@ -68,14 +70,15 @@ public class BlockEffectHandler implements IClientEffectHandler {
 					random.nextInt(RANGE) - random.nextInt(RANGE), random.nextInt(RANGE) - random.nextInt(RANGE));
 			final Block block = MCHelper.getBlock(world, pos);
 			if (block != Blocks.air) {
-				final List<BlockEffect> chain = BlockRegistry.getEffects(block);
-				if (chain != null) {
-					for (final BlockEffect effect : chain)
-						if (effect.trigger(block, world, pos, random))
-							effect.doEffect(block, world, pos, random);
-				}
+				final BlockRegistry.Entry entry = BlockRegistry.get(block);
+				if (entry == null)
+					continue;
 
-				final SoundEffect sound = BlockRegistry.getSound(block, random, conditions);
+				for (final BlockEffect effect : entry.effects)
+					if (effect.trigger(block, world, pos, random) && ParticleBudget.request(Category.JET))
+						effect.doEffect(block, world, pos, random);
+
+				final SoundEffect sound = entry.getSound(random, conditions);
 				if (sound != null)
 					sound.doEffect(block, world, pos, random);
 			}
@@ -96,4 +99,14 @@ public class BlockEffectHandler implements IClientEffectHandler {
 	public boolean hasEvents() {
 		return false;
 	}
+
+	@Override
+	public int getPeriod() {
+		return 1;
+	}
+
+	@Override
+	public int getCost() {
+		return 300;
+	}
 }
@@ -88,7 +88,7 @@ public abstract class JetEffect extends BlockEffect {
 		public void doEffect(final Block block, final World world, final BlockPos pos, final Random random) {
 			final int lavaBlocks = countBlocks(world, pos, block, -1);
 			final double spawnHeight = jetSpawnHeight(world, pos);
-			final EntityJetFX effect = new EntityFireJetFX(lavaBlocks, world, pos.getX() + 0.5D, spawnHeight,
+			final EntityJetFX effect = EntityFireJetFX.create(lavaBlocks, world, pos.getX() + 0.5D, spawnHeight,
 					pos.getZ() + 0.5D);
 			addEffect(effect);
 		}
@@ -107,8 +107,8 @@ public abstract class JetEffect extends BlockEffect {
 
 		public void doEffect(final Block block, final World world, final BlockPos pos, final Random random) {
 			final int waterBlocks = countBlocks(world, pos, block, 1);
-			final EntityJetFX effect = new EntityBubbleJetFX(waterBlocks, world, pos.getX() + 0.5D, pos.getY() + 0.1D,
-					pos.getZ() + 0.5D);
+			final EntityJetFX effect = EntityBubbleJetFX.create(waterBlocks, world, pos.getX() + 0.5D,
+					pos.getY() + 0.1D, pos.getZ() + 0.5D);
 			addEffect(effect);
 		}
 	}
@@ -141,7 +141,7 @@ public abstract class JetEffect extends BlockEffect {
 		public void doEffect(final Block block, final World world, final BlockPos pos, final Random random) {
 			final int strength = lavaCount(world, pos);
 			final double spawnHeight = jetSpawnHeight(world, pos);
-			final EntityJetFX effect = new EntitySteamJetFX(strength, world, pos.getX() + 0.5D, spawnHeight,
+			final EntityJetFX effect = EntitySteamJetFX.create(strength, world, pos.getX() + 0.5D, spawnHeight,
 					pos.getZ() + 0.5D);
 			addEffect(effect);
 		}
@@ -160,7 +160,7 @@ public abstract class JetEffect extends BlockEffect {
 
 		public void doEffect(final Block block, final World world, final BlockPos pos, final Random random) {
 			final IBlockState state = world.getBlockState(pos);
-			final EntityJetFX effect = new EntityDustJetFX(2, world, pos.getX() + 0.5D, pos.getY() - 0.2D,
+			final EntityJetFX effect = EntityDustJetFX.create(2, world, pos.getX() + 0.5D, pos.getY() - 0.2D,
 					pos.getZ() + 0.5D, state);
 			addEffect(effect);
 		}
@@ -178,7 +178,7 @@ public abstract class JetEffect extends BlockEffect {
 
 		public void doEffect(final Block block, final World world, final BlockPos pos, final Random random) {
 			final IBlockState state = world.getBlockState(pos);
-			final EntityJetFX effect = new EntityFountainJetFX(5, world, pos.getX() + 0.5D, pos.getY() + 1.1D,
+			final EntityJetFX effect = EntityFountainJetFX.create(5, world, pos.getX() + 0.5D, pos.getY() + 1.1D,
 					pos.getZ() + 0.5D, state);
 			addEffect(effect);
 		}
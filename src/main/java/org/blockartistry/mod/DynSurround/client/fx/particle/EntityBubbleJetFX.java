@@ -26,20 +26,35 @@ package org.blockartistry.mod.DynSurround.client.fx.particle;
 
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.fml.relauncher.Side;
-import net.minecraft.client.particle.EntityBubbleFX;
 import net.minecraft.client.particle.EntityFX;
 import net.minecraft.world.World;
 
 @SideOnly(Side.CLIENT)
 public class EntityBubbleJetFX extends EntityJetFX {
 
+	private static final ParticlePool<EntityBubbleJetFX> POOL = new ParticlePool<EntityBubbleJetFX>("Bubble Jet");
+
 	public EntityBubbleJetFX(final int strength, final World world, final double x, final double y, final double z) {
 		super(strength, world, x, y, z);
 	}
 
+	public static EntityBubbleJetFX create(final int strength, final World world, final double x, final double y,
+			final double z) {
+		final EntityBubbleJetFX fx = POOL.acquire();
+		if (fx == null)
+			return new EntityBubbleJetFX(strength, world, x, y, z);
+		fx.reset(strength, world, x, y, z, 3);
+		return fx;
+	}
+
+	@Override
+	protected void release() {
+		POOL.release(this);
+	}
+
 	@Override
 	protected EntityFX getJetParticle() {
-		return new EntityBubbleFX.Factory().getEntityFX(0, this.worldObj, this.posX, this.posY, this.posZ, 0.0D,
+		return ParticleFactory.bubble.getEntityFX(0, this.worldObj, this.posX, this.posY, this.posZ, 0.0D,
 				0.5D + this.jetStrength / 10.0D, 0.0D);
 	}
 }
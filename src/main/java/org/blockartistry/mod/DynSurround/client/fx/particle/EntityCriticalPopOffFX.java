@@ -40,10 +40,31 @@ public class EntityCriticalPopOffFX extends EntityTextPopOffFX {
 		return POWER_WORDS[XorShiftRandom.shared.nextInt(POWER_WORDS.length)];
 	}
 
+	private static final ParticlePool<EntityCriticalPopOffFX> POOL = new ParticlePool<EntityCriticalPopOffFX>(
+			"Critical Pop-off");
+
 	public EntityCriticalPopOffFX(final World world, final double x, final double y, final double z) {
 		super(world, getPowerWord(), Color.ORANGE, 1.0F, x, y, z, 0.001D, 0.05D * BOUNCE_STRENGTH, 0.001D);
+		init();
+	}
+
+	private void init() {
 		this.shouldOnTop = true;
 		this.particleGravity = -0.04F;
 		this.scale = 0.5F;
 	}
+
+	public static EntityCriticalPopOffFX create(final World world, final double x, final double y, final double z) {
+		final EntityCriticalPopOffFX fx = POOL.acquire();
+		if (fx == null)
+			return new EntityCriticalPopOffFX(world, x, y, z);
+		fx.reset(world, getPowerWord(), Color.ORANGE, x, y, z, 0.001D, 0.05D * BOUNCE_STRENGTH, 0.001D);
+		fx.init();
+		return fx;
+	}
+
+	@Override
+	protected void release() {
+		POOL.release(this);
+	}
 }
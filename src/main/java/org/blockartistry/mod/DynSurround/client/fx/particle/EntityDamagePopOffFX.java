@@ -30,7 +30,24 @@ import net.minecraft.world.World;
 
 public class EntityDamagePopOffFX extends EntityTextPopOffFX {
 
+	private static final ParticlePool<EntityDamagePopOffFX> POOL = new ParticlePool<EntityDamagePopOffFX>(
+			"Damage Pop-off");
+
 	public EntityDamagePopOffFX(final World world, final double x, final double y, final double z, final int amount) {
 		super(world, String.valueOf(amount), Color.RED, 1.0F, x, y, z, 0.001D, 0.05D * BOUNCE_STRENGTH, 0.001D);
 	}
+
+	public static EntityDamagePopOffFX create(final World world, final double x, final double y, final double z,
+			final int amount) {
+		final EntityDamagePopOffFX fx = POOL.acquire();
+		if (fx == null)
+			return new EntityDamagePopOffFX(world, x, y, z, amount);
+		fx.reset(world, String.valueOf(amount), Color.RED, x, y, z, 0.001D, 0.05D * BOUNCE_STRENGTH, 0.001D);
+		return fx;
+	}
+
+	@Override
+	protected void release() {
+		POOL.release(this);
+	}
 }
@@ -45,7 +45,9 @@ public class EntityDustJetFX extends EntityJetFX {
 
 	}
 
-	protected final IBlockState blockState;
+	private static final ParticlePool<EntityDustJetFX> POOL = new ParticlePool<EntityDustJetFX>("Dust Jet");
+
+	protected IBlockState blockState;
 
 	public EntityDustJetFX(final int strength, final World world, final double x, final double y, final double z,
 			final IBlockState state) {
@@ -53,6 +55,21 @@ public class EntityDustJetFX extends EntityJetFX {
 		this.blockState = state;
 	}
 
+	public static EntityDustJetFX create(final int strength, final World world, final double x, final double y,
+			final double z, final IBlockState state) {
+		final EntityDustJetFX fx = POOL.acquire();
+		if (fx == null)
+			return new EntityDustJetFX(strength, world, x, y, z, state);
+		fx.reset(strength, world, x, y, z, 2);
+		fx.blockState = state;
+		return fx;
+	}
+
+	@Override
+	protected void release() {
+		POOL.release(this);
+	}
+
 	@Override
 	protected EntityFX getJetParticle() {
 		return new EntityDustFX(this.worldObj, this.posX, this.posY, this.posZ, this.blockState).func_174845_l();
@@ -32,7 +32,6 @@ import org.blockartistry.mod.DynSurround.client.sound.SoundManager;
 
 import net.minecraft.client.particle.EntityFX;
 import net.minecraft.client.particle.EntityFlameFX;
-import net.minecraft.client.particle.EntityLavaFX;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
@@ -42,13 +41,30 @@ public class EntityFireJetFX extends EntityJetFX {
 
 	private static final SoundEffect FIRE = new SoundEffect("minecraft:fire.fire");
 
-	protected final boolean isLava;
+	private static final ParticlePool<EntityFireJetFX> POOL = new ParticlePool<EntityFireJetFX>("Fire Jet");
+
+	protected boolean isLava;
 
 	public EntityFireJetFX(final int strength, final World world, final double x, final double y, final double z) {
 		super(strength, world, x, y, z);
 		this.isLava = RANDOM.nextInt(3) == 0;
 	}
 
+	public static EntityFireJetFX create(final int strength, final World world, final double x, final double y,
+			final double z) {
+		final EntityFireJetFX fx = POOL.acquire();
+		if (fx == null)
+			return new EntityFireJetFX(strength, world, x, y, z);
+		fx.reset(strength, world, x, y, z, 3);
+		fx.isLava = RANDOM.nextInt(3) == 0;
+		return fx;
+	}
+
+	@Override
+	protected void release() {
+		POOL.release(this);
+	}
+
 	@Override
 	public void playSound() {
 		final int x = MathHelper.floor_double(this.posX);
@@ -60,9 +76,9 @@ public class EntityFireJetFX extends EntityJetFX {
 	@Override
 	protected EntityFX getJetParticle() {
 		if (this.isLava) {
-			return new EntityLavaFX.Factory().getEntityFX(0, this.worldObj, this.posX, this.posY, this.posZ, 0, 0, 0);
+			return ParticleFactory.lavaSpark.getEntityFX(0, this.worldObj, this.posX, this.posY, this.posZ, 0, 0, 0);
 		}
-		final EntityFlameFX flame = (EntityFlameFX) new EntityFlameFX.Factory().getEntityFX(0, this.worldObj, this.posX,
+		final EntityFlameFX flame = (EntityFlameFX) ParticleFactory.flame.getEntityFX(0, this.worldObj, this.posX,
 				this.posY, this.posZ, 0.0D, this.jetStrength / 10.0D, 0.0D);
 		flame.flameScale *= this.jetStrength;
 		return flame;
@@ -45,7 +45,10 @@ public class EntityFountainJetFX extends EntityJetFX {
 
 	}
 
-	protected final IBlockState block;
+	private static final ParticlePool<EntityFountainJetFX> POOL = new ParticlePool<EntityFountainJetFX>(
+			"Fountain Jet");
+
+	protected IBlockState block;
 
 	public EntityFountainJetFX(final int strength, final World world, final double x, final double y, final double z,
 			final IBlockState block) {
@@ -53,6 +56,21 @@ public class EntityFountainJetFX extends EntityJetFX {
 		this.block = block;
 	}
 
+	public static EntityFountainJetFX create(final int strength, final World world, final double x, final double y,
+			final double z, final IBlockState block) {
+		final EntityFountainJetFX fx = POOL.acquire();
+		if (fx == null)
+			return new EntityFountainJetFX(strength, world, x, y, z, block);
+		fx.reset(strength, world, x, y, z, 1);
+		fx.block = block;
+		return fx;
+	}
+
+	@Override
+	protected void release() {
+		POOL.release(this);
+	}
+
 	@Override
 	protected EntityFX getJetParticle() {
 		final double motionX = RANDOM.nextGaussian() * 0.03D;
@@ -30,7 +30,24 @@ import net.minecraft.world.World;
 
 public class EntityHealPopOffFX extends EntityTextPopOffFX {
 
+	private static final ParticlePool<EntityHealPopOffFX> POOL = new ParticlePool<EntityHealPopOffFX>(
+			"Heal Pop-off");
+
 	public EntityHealPopOffFX(final World world, final double x, final double y, final double z, final int amount) {
 		super(world, String.valueOf(amount), Color.GREEN, 1.0F, x, y, z, 0.001D, 0.05D * BOUNCE_STRENGTH, 0.001D);
 	}
+
+	public static EntityHealPopOffFX create(final World world, final double x, final double y, final double z,
+			final int amount) {
+		final EntityHealPopOffFX fx = POOL.acquire();
+		if (fx == null)
+			return new EntityHealPopOffFX(world, x, y, z, amount);
+		fx.reset(world, String.valueOf(amount), Color.GREEN, x, y, z, 0.001D, 0.05D * BOUNCE_STRENGTH, 0.001D);
+		return fx;
+	}
+
+	@Override
+	protected void release() {
+		POOL.release(this);
+	}
 }
@@ -26,6 +26,7 @@ package org.blockartistry.mod.DynSurround.client.fx.particle;
 
 import java.util.Random;
 
+import org.blockartistry.mod.DynSurround.client.fx.particle.ParticleBudget.Category;
 import org.blockartistry.mod.DynSurround.util.XorShiftRandom;
 
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -46,8 +47,8 @@ public abstract class EntityJetFX extends EntityFX {
 
 	protected static final Random RANDOM = new XorShiftRandom();
 
-	protected final int jetStrength;
-	protected final int updateFrequency;
+	protected int jetStrength;
+	protected int updateFrequency;
 
 	public EntityJetFX(final int strength, final World world, final double x, final double y, final double z) {
 		this(strength, world, x, y, z, 3);
@@ -56,13 +57,45 @@ public abstract class EntityJetFX extends EntityFX {
 	public EntityJetFX(final int strength, final World world, final double x, final double y, final double z,
 			final int freq) {
 		super(world, x, y, z);
+		init(strength, freq);
+	}
 
+	private void init(final int strength, final int freq) {
 		this.setAlphaF(0.0F);
 		this.jetStrength = strength;
 		this.updateFrequency = freq;
 		this.particleMaxAge = (XorShiftRandom.shared.nextInt(strength) + 2) * 20;
 	}
 
+	/*
+	 * Reinitializes a jet taken from a ParticlePool as if it had been newly
+	 * constructed.
+	 */
+	protected void reset(final int strength, final World world, final double x, final double y, final double z,
+			final int freq) {
+		this.worldObj = world;
+		this.isDead = false;
+		this.setPosition(x, y, z);
+		this.lastTickPosX = this.prevPosX = x;
+		this.lastTickPosY = this.prevPosY = y;
+		this.lastTickPosZ = this.prevPosZ = z;
+		this.particleAge = 0;
+		init(strength, freq);
+	}
+
+	/*
+	 * Override in derived class to hand the dead jet back to its pool.
+	 */
+	protected abstract void release();
+
+	@Override
+	public void setDead() {
+		if (!this.isDead) {
+			super.setDead();
+			release();
+		}
+	}
+
 	/*
 	 * Nothing to render so optimize out
 	 */
@@ -90,7 +123,7 @@ public abstract class EntityJetFX extends EntityFX {
 	public void onUpdate() {
 
 		// Check to see if a particle needs to be generated
-		if (this.particleAge % this.updateFrequency == 0) {
+		if (this.particleAge % this.updateFrequency == 0 && ParticleBudget.request(Category.JET)) {
 			Minecraft.getMinecraft().effectRenderer.addEffect(getJetParticle());
 		}
 
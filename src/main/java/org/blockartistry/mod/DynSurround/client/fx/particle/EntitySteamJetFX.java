@@ -26,6 +26,7 @@ package org.blockartistry.mod.DynSurround.client.fx.particle;
 
 import net.minecraft.client.particle.EntityCloudFX;
 import net.minecraft.client.particle.EntityFX;
+import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.fml.relauncher.Side;
@@ -33,12 +34,75 @@ import net.minecraftforge.fml.relauncher.Side;
 @SideOnly(Side.CLIENT)
 public class EntitySteamJetFX extends EntityJetFX {
 
+	private static final ParticlePool<EntitySteamJetFX> POOL = new ParticlePool<EntitySteamJetFX>("Steam Jet");
+	private static final ParticlePool<EntitySteamCloudFX> CLOUDS = new ParticlePool<EntitySteamCloudFX>(
+			"Steam Cloud");
+
 	protected static final class EntitySteamCloudFX extends EntityCloudFX {
 		public EntitySteamCloudFX(final World world, final double x, final double y, final double z, final double dX,
 				final double dY, final double dZ) {
 			super(world, x, y, z, dX, dY, dZ);
 		}
 
+		public static EntitySteamCloudFX create(final World world, final double x, final double y, final double z,
+				final double dX, final double dY, final double dZ) {
+			final EntitySteamCloudFX fx = CLOUDS.acquire();
+			if (fx == null)
+				return new EntitySteamCloudFX(world, x, y, z, dX, dY, dZ);
+			fx.reset(world, x, y, z, dX, dY, dZ);
+			return fx;
+		}
+
+		/*
+		 * Repeats the setup done by the EntityFX and EntityCloudFX
+		 * constructors. The cloud size is private to EntityCloudFX so it
+		 * keeps the value from the particle's previous life, which was drawn
+		 * from the same range. The particle scale is recomputed from it
+		 * when rendered.
+		 */
+		private void reset(final World world, final double x, final double y, final double z, final double dX,
+				final double dY, final double dZ) {
+			this.worldObj = world;
+			this.isDead = false;
+			this.onGround = false;
+			this.isCollided = this.isCollidedHorizontally = this.isCollidedVertically = false;
+			this.setPosition(x, y, z);
+			this.lastTickPosX = this.prevPosX = x;
+			this.lastTickPosY = this.prevPosY = y;
+			this.lastTickPosZ = this.prevPosZ = z;
+			this.particleAge = 0;
+			this.particleAlpha = 1.0F;
+			this.noClip = false;
+			this.particleTextureJitterX = this.rand.nextFloat() * 3.0F;
+			this.particleTextureJitterY = this.rand.nextFloat() * 3.0F;
+			this.setParticleTextureIndex(7);
+
+			double mX = (RANDOM.nextDouble() * 2.0D - 1.0D) * 0.4D;
+			double mY = (RANDOM.nextDouble() * 2.0D - 1.0D) * 0.4D;
+			double mZ = (RANDOM.nextDouble() * 2.0D - 1.0D) * 0.4D;
+			final float f = (float) (RANDOM.nextDouble() + RANDOM.nextDouble() + 1.0D) * 0.15F;
+			final float f1 = MathHelper.sqrt_double(mX * mX + mY * mY + mZ * mZ);
+			mX = mX / f1 * f * 0.4D;
+			mY = mY / f1 * f * 0.4D + 0.1D;
+			mZ = mZ / f1 * f * 0.4D;
+			this.motionX = mX * 0.1D + dX;
+			this.motionY = mY * 0.1D + dY;
+			this.motionZ = mZ * 0.1D + dZ;
+
+			final float shade = 1.0F - (float) (RANDOM.nextDouble() * 0.3D);
+			this.particleRed = this.particleGreen = this.particleBlue = shade;
+			this.particleMaxAge = (int) (8.0D / (RANDOM.nextDouble() * 0.8D + 0.3D));
+			this.particleMaxAge = (int) (this.particleMaxAge * 2.5F);
+		}
+
+		@Override
+		public void setDead() {
+			if (!this.isDead) {
+				super.setDead();
+				CLOUDS.release(this);
+			}
+		}
+
 		@Override
 		public void onUpdate() {
 			this.prevPosX = this.posX;
@@ -66,11 +130,25 @@ public class EntitySteamJetFX extends EntityJetFX {
 		super(strength, world, x, y, z);
 	}
 
+	public static EntitySteamJetFX create(final int strength, final World world, final double x, final double y,
+			final double z) {
+		final EntitySteamJetFX fx = POOL.acquire();
+		if (fx == null)
+			return new EntitySteamJetFX(strength, world, x, y, z);
+		fx.reset(strength, world, x, y, z, 3);
+		return fx;
+	}
+
+	@Override
+	protected void release() {
+		POOL.release(this);
+	}
+
 	@Override
 	protected EntityFX getJetParticle() {
 		final double motionX = RANDOM.nextGaussian() * 0.02D;
 		final double motionZ = RANDOM.nextGaussian() * 0.02D;
-		return new EntitySteamCloudFX(this.worldObj, this.posX, this.posY, this.posZ, motionX, 0.1F, motionZ);
+		return EntitySteamCloudFX.create(this.worldObj, this.posX, this.posY, this.posZ, motionX, 0.1F, motionZ);
 	}
 
 }
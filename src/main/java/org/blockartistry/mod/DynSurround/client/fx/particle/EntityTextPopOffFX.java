@@ -55,7 +55,10 @@ public class EntityTextPopOffFX extends EntityFX {
 	public EntityTextPopOffFX(final World world, final String text, final Color color, final float scale,
 			final double x, final double y, final double z, final double dX, final double dY, final double dZ) {
 		super(world, x, y, z, dX, dY, dZ);
+		init(text, color, dX, dY, dZ);
+	}
 
+	private void init(final String text, final Color color, final double dX, final double dY, final double dZ) {
 		this.text = text;
 		this.renderColor = color;
 		this.motionX = dX;
@@ -73,6 +76,41 @@ public class EntityTextPopOffFX extends EntityFX {
 		this.particleMaxAge = LIFESPAN;
 	}
 
+	/*
+	 * Reinitializes a pop-off taken from a ParticlePool as if it had been newly
+	 * constructed.
+	 */
+	protected void reset(final World world, final String text, final Color color, final double x, final double y,
+			final double z, final double dX, final double dY, final double dZ) {
+		this.worldObj = world;
+		this.isDead = false;
+		this.onGround = false;
+		this.isCollided = this.isCollidedHorizontally = this.isCollidedVertically = false;
+		this.setPosition(x, y, z);
+		this.lastTickPosX = this.prevPosX = x;
+		this.lastTickPosY = this.prevPosY = y;
+		this.lastTickPosZ = this.prevPosZ = z;
+		this.particleAge = 0;
+		this.shouldOnTop = false;
+		this.grow = true;
+		this.scale = 1.0F;
+		init(text, color, dX, dY, dZ);
+	}
+
+	/*
+	 * Override in derived class to hand the dead pop-off back to its pool.
+	 */
+	protected void release() {
+	}
+
+	@Override
+	public void setDead() {
+		if (!this.isDead) {
+			super.setDead();
+			release();
+		}
+	}
+
 	@Override
 	public void renderParticle(final WorldRenderer renderer, final Entity entity, final float x, final float y,
 			final float z, final float dX, final float dY, final float dZ) {
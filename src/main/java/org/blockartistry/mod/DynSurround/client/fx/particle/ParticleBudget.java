@@ -0,0 +1,173 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client.fx.particle;
+
+import org.blockartistry.mod.DynSurround.ModOptions;
+import org.blockartistry.mod.DynSurround.client.QualityGovernor;
+import org.blockartistry.mod.DynSurround.event.DiagnosticEvent;
+
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/*
+ * Shared limit on the number of particles the mod spawns per client tick.
+ * Every particle source asks for permission before creating a particle.
+ * 
+ * At the start of each tick the budget is handed out in priority order. Each
+ * category reserves as much as it asked for during the previous tick, and
+ * whatever is left is shared first come first served. A burst from a low
+ * priority source can therefore not starve a higher priority one. Pop-offs
+ * arrive one at a time from the network, so they always keep a small
+ * reserve even if none were asked for in the previous tick.
+ * 
+ * The total budget follows the frame rate measured by QualityGovernor. It is
+ * cut back while the average frame time is above the target and recovers
+ * slowly once it is below.
+ */
+@SideOnly(Side.CLIENT)
+public final class ParticleBudget {
+
+	/*
+	 * Particle sources, highest priority first. Pop-offs are few and carry
+	 * information; splashes are numerous and purely ambient.
+	 */
+	public static enum Category {
+		POPOFF(true), JET(false), SPLASH(false);
+
+		private final boolean guaranteed;
+
+		private Category(final boolean guaranteed) {
+			this.guaranteed = guaranteed;
+		}
+	}
+
+	// Smallest reserve kept for a guaranteed category
+	private static final int MIN_GUARANTEED = 4;
+
+	private static final Category[] CATEGORIES = Category.values();
+
+	private static final int[] reserved = new int[CATEGORIES.length];
+	private static final int[] granted = new int[CATEGORIES.length];
+	private static final int[] denied = new int[CATEGORIES.length];
+	private static final int[] lastGranted = new int[CATEGORIES.length];
+	private static final int[] lastDenied = new int[CATEGORIES.length];
+	private static int spare;
+	private static int budget = -1;
+
+	private ParticleBudget() {
+	}
+
+	/*
+	 * Asks for permission to spawn a single particle of the category. Returns
+	 * false if the particle should be skipped.
+	 */
+	public static boolean request(final Category category) {
+		final int i = category.ordinal();
+		if (granted[i] < reserved[i]) {
+			granted[i]++;
+			return true;
+		}
+		if (spare > 0) {
+			spare--;
+			granted[i]++;
+			return true;
+		}
+		denied[i]++;
+		return false;
+	}
+
+	public static int getBudget() {
+		return budget;
+	}
+
+	private static void adjustBudget() {
+		final int max = ModOptions.particleBudget;
+		final int min = Math.max(max / 8, 1);
+		if (budget < 0 || budget > max) {
+			budget = max;
+			return;
+		}
+
+		final long frameTime = QualityGovernor.getFrameTime();
+		if (ModOptions.particleTargetFPS <= 0 || frameTime == 0) {
+			budget = max;
+			return;
+		}
+
+		final long target = 1000000000L / ModOptions.particleTargetFPS;
+		if (frameTime > target) {
+			budget = Math.max(min, budget - budget / 8);
+		} else if (frameTime < target - target / 10) {
+			budget = Math.min(max, budget + Math.max(max / 32, 1));
+		}
+	}
+
+	private static void allocate() {
+		int remaining = budget;
+		for (int i = 0; i < CATEGORIES.length; i++) {
+			final int demand = granted[i] + denied[i];
+			lastGranted[i] = granted[i];
+			lastDenied[i] = denied[i];
+			granted[i] = denied[i] = 0;
+
+			int want = demand;
+			if (CATEGORIES[i].guaranteed)
+				want = Math.max(want, Math.max(budget / 16, MIN_GUARANTEED));
+			reserved[i] = Math.min(want, remaining);
+			remaining -= reserved[i];
+		}
+		spare = remaining;
+	}
+
+	public static final class EventHandler {
+
+		@SubscribeEvent
+		public void clientTick(final TickEvent.ClientTickEvent event) {
+			if (event.phase == Phase.START) {
+				adjustBudget();
+				allocate();
+			}
+		}
+
+		@SubscribeEvent(priority = EventPriority.LOWEST)
+		public void diagnostics(final DiagnosticEvent.Gather event) {
+			final StringBuilder builder = new StringBuilder();
+			builder.append("Particle Budget: ").append(budget);
+			for (int i = 0; i < CATEGORIES.length; i++) {
+				builder.append(' ').append(CATEGORIES[i].name().toLowerCase());
+				builder.append(' ').append(lastGranted[i]).append('/').append(lastDenied[i]);
+			}
+			event.output.add(builder.toString());
+		}
+	}
+
+	public static void initialize() {
+		MinecraftForge.EVENT_BUS.register(new EventHandler());
+	}
+}
@@ -26,6 +26,8 @@ package org.blockartistry.mod.DynSurround.client.fx.particle;
 
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+import net.minecraft.client.particle.EntityBubbleFX;
+import net.minecraft.client.particle.EntityFlameFX;
 import net.minecraft.client.particle.EntityLavaFX;
 import net.minecraft.client.particle.EntityRainFX;
 import net.minecraft.client.particle.EntitySmokeFX;
@@ -41,5 +43,7 @@ public class ParticleFactory {
 	public static final IParticleFactory lavaSpark = new EntityLavaFX.Factory();
 	public static final IParticleFactory smoke = new EntitySmokeFX.Factory();
 	public static final IParticleFactory rain = new EntityRainFX.Factory();
+	public static final IParticleFactory flame = new EntityFlameFX.Factory();
+	public static final IParticleFactory bubble = new EntityBubbleFX.Factory();
 	
 }
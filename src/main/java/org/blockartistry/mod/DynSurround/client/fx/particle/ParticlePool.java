@@ -0,0 +1,142 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client.fx.particle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.blockartistry.mod.DynSurround.event.DiagnosticEvent;
+
+import net.minecraft.client.particle.EntityFX;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/*
+ * Free list of dead particles of one class. A pooled particle hands itself
+ * back from setDead() and is reinitialized by its create() method when taken
+ * out again.
+ *
+ * The EffectRenderer drops a dead particle from its lists at the end of the
+ * update pass it died in. Released particles are held for a full client tick
+ * before they become available so that a particle is never added back while
+ * the EffectRenderer still holds it.
+ */
+@SideOnly(Side.CLIENT)
+public final class ParticlePool<T extends EntityFX> {
+
+	// Upper bound on idle particles per pool so a burst does not pin memory
+	private static final int MAX_FREE = 256;
+
+	private static final List<ParticlePool<?>> pools = new ArrayList<ParticlePool<?>>();
+
+	private final String name;
+	private final ArrayDeque<T> free = new ArrayDeque<T>();
+	private List<T> released = new ArrayList<T>();
+	private List<T> retired = new ArrayList<T>();
+	private long hits;
+	private long misses;
+
+	public ParticlePool(final String name) {
+		this.name = name;
+		pools.add(this);
+	}
+
+	/*
+	 * Returns a dead particle for reuse, or null if the caller has to create
+	 * a new one.
+	 */
+	public T acquire() {
+		final T fx = this.free.pollFirst();
+		if (fx == null)
+			this.misses++;
+		else
+			this.hits++;
+		return fx;
+	}
+
+	public void release(final T fx) {
+		this.released.add(fx);
+	}
+
+	private void recycle() {
+		for (int i = 0; i < this.retired.size() && this.free.size() < MAX_FREE; i++)
+			this.free.addLast(this.retired.get(i));
+		this.retired.clear();
+
+		final List<T> t = this.retired;
+		this.retired = this.released;
+		this.released = t;
+	}
+
+	private void clear() {
+		this.free.clear();
+		this.released.clear();
+		this.retired.clear();
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("Pool ").append(this.name).append(':');
+		builder.append(" hit ").append(this.hits);
+		builder.append(", miss ").append(this.misses);
+		builder.append(", free ").append(this.free.size());
+		return builder.toString();
+	}
+
+	public static final class Recycler {
+
+		@SubscribeEvent
+		public void clientTick(final TickEvent.ClientTickEvent event) {
+			if (event.phase == Phase.END)
+				for (final ParticlePool<?> pool : pools)
+					pool.recycle();
+		}
+
+		// Idle particles hold on to the world they last lived in
+		@SubscribeEvent
+		public void onWorldUnload(final WorldEvent.Unload event) {
+			if (event.world.isRemote)
+				for (final ParticlePool<?> pool : pools)
+					pool.clear();
+		}
+
+		@SubscribeEvent(priority = EventPriority.LOWEST)
+		public void diagnostics(final DiagnosticEvent.Gather event) {
+			for (final ParticlePool<?> pool : pools)
+				event.output.add(pool.toString());
+		}
+	}
+
+	public static void initialize() {
+		MinecraftForge.EVENT_BUS.register(new Recycler());
+	}
+}
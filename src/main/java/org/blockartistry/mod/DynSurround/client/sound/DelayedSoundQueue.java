@@ -0,0 +1,122 @@
+/*
+ * This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client.sound;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.blockartistry.mod.DynSurround.ModOptions;
+
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/*
+ * Timing wheel for spot sounds that are to be played some ticks from now.
+ * Each slot holds the sounds that come due on a tick with the same low
+ * bits, so queuing is a single add and each tick only looks at the slot
+ * for that tick. A sound delayed past a full turn of the wheel stays in
+ * its slot until its tick comes around.
+ */
+@SideOnly(Side.CLIENT)
+final class DelayedSoundQueue {
+
+	private static final int WHEEL_SIZE = 128;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+	private final List<List<SpotSound>> wheel = new ArrayList<List<SpotSound>>(WHEEL_SIZE);
+	private int lastTick;
+	private boolean started;
+	private int size;
+	private int dropped;
+
+	public DelayedSoundQueue() {
+		for (int i = 0; i < WHEEL_SIZE; i++)
+			this.wheel.add(new ArrayList<SpotSound>());
+	}
+
+	public void clear() {
+		for (int i = 0; i < WHEEL_SIZE; i++)
+			this.wheel.get(i).clear();
+		this.started = false;
+		this.size = 0;
+		this.dropped = 0;
+	}
+
+	/*
+	 * Queues the sound for the tick it is due. Returns false, and counts the
+	 * sound as dropped, if the queue is full.
+	 */
+	public boolean add(final SpotSound sound) {
+		if (this.size >= ModOptions.maxDelayedSounds) {
+			this.dropped++;
+			return false;
+		}
+		this.wheel.get(sound.getTimeMark() & WHEEL_MASK).add(sound);
+		this.size++;
+		return true;
+	}
+
+	public void drop() {
+		this.dropped++;
+	}
+
+	/*
+	 * Moves the sounds that have come due since the last call into the
+	 * supplied list.
+	 */
+	public void drain(final int tick, final List<SpotSound> due) {
+		if (!this.started) {
+			this.started = true;
+			this.lastTick = tick - 1;
+		}
+
+		// After a long stall one turn of the wheel covers every slot
+		final int first = Math.max(this.lastTick + 1, tick - WHEEL_MASK);
+		for (int t = first; t <= tick && this.size > 0; t++) {
+			final List<SpotSound> slot = this.wheel.get(t & WHEEL_MASK);
+			int keep = 0;
+			for (int i = 0; i < slot.size(); i++) {
+				final SpotSound sound = slot.get(i);
+				if (sound.getTimeMark() <= tick) {
+					due.add(sound);
+					this.size--;
+				} else {
+					slot.set(keep++, sound);
+				}
+			}
+			for (int i = slot.size() - 1; i >= keep; i--)
+				slot.remove(i);
+		}
+		this.lastTick = tick;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public int getDropped() {
+		return this.dropped;
+	}
+}
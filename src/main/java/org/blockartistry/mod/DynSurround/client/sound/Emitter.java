@@ -50,9 +50,14 @@ class Emitter {
 	protected PlayerSound activeSound;
 
 	protected int repeatDelay = 0;
+	protected float volume;
+
+	// Used by SoundManager to find emitters that are no longer wanted
+	int mark;
 
 	public Emitter(final SoundEffect sound) {
 		this.effect = sound;
+		this.volume = sound.getVolume();
 	}
 
 	public void update() {
@@ -76,7 +81,7 @@ class Emitter {
 		if (SoundSystemConfig.getMasterGain() <= 0)
 			return;
 
-		final PlayerSound theSound = new PlayerSound(effect);
+		final PlayerSound theSound = new PlayerSound(this.effect, this.volume);
 		if (this.effect.type == SoundType.PERIODIC) {
 			this.repeatDelay = this.effect.getRepeat(RANDOM);
 		} else {
@@ -84,13 +89,16 @@ class Emitter {
 		}
 
 		try {
-			SoundManager.playSound(theSound);
+			// If no channel could be had try again on the next update
+			if (!SoundManager.playSound(theSound, this.effect) && this.activeSound == theSound)
+				this.activeSound = null;
 		} catch (final Throwable t) {
 			;
 		}
 	}
 
 	public void setVolume(final float volume) {
+		this.volume = volume;
 		if (this.activeSound != null)
 			this.activeSound.setVolume(volume);
 	}
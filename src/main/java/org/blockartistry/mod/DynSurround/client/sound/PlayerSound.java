@@ -47,11 +47,15 @@ class PlayerSound extends MovingSound {
 	private boolean isFading;
 
 	public PlayerSound(final SoundEffect sound) {
+		this(sound, sound.volume);
+	}
+
+	public PlayerSound(final SoundEffect sound, final float volume) {
 		super(new ResourceLocation(sound.sound));
 
 		// Don't set volume to 0; MC will optimize out
 		this.sound = sound;
-		this.volume = sound.volume;
+		this.volume = volume;
 		this.pitch = sound.getPitch(RANDOM);
 		this.repeat = sound.repeatDelay == 0;
 
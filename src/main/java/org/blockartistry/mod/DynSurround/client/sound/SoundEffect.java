@@ -24,9 +24,9 @@
 package org.blockartistry.mod.DynSurround.client.sound;
 
 import java.util.Random;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
+import org.blockartistry.mod.DynSurround.data.ConditionRegistry;
 import org.blockartistry.mod.DynSurround.data.config.SoundConfig;
 
 import net.minecraft.block.Block;
@@ -38,7 +38,15 @@ public final class SoundEffect {
 	private static final float[] pitchDelta = { -0.2F, 0.0F, 0.0F, 0.2F, 0.2F, 0.2F };
 
 	public static enum SoundType {
-		BACKGROUND, SPOT, STEP, PERIODIC;
+		// Priority decides which sounds give up their channel when the
+		// sound system runs out; lower values are stolen first.
+		BACKGROUND(2), SPOT(0), STEP(3), PERIODIC(1);
+
+		public final int priority;
+
+		private SoundType(final int priority) {
+			this.priority = priority;
+		}
 
 		public static SoundType getType(final String soundType) {
 			if (soundType == null)
@@ -53,9 +61,10 @@ public final class SoundEffect {
 		}
 	}
 
+	// Interned so that sounds can be matched by identity
 	public final String sound;
 	public final String conditions;
-	private final Pattern pattern;
+	private final ConditionRegistry.Predicate predicate;
 	public final SoundType type;
 	public float volume;
 	public final float pitch;
@@ -78,11 +87,11 @@ public final class SoundEffect {
 
 	public SoundEffect(final String sound, final float volume, final float pitch, final int repeatDelay,
 			final boolean variable) {
-		this.sound = sound;
+		this.sound = sound.intern();
 		this.volume = volume;
 		this.pitch = pitch;
 		this.conditions = ".*";
-		this.pattern = null;
+		this.predicate = ConditionRegistry.ALWAYS;
 		this.weight = 1;
 		this.type = SoundType.SPOT;
 		this.variable = variable;
@@ -95,7 +104,7 @@ public final class SoundEffect {
 		this.volume = effect.volume;
 		this.pitch = effect.pitch;
 		this.conditions = effect.conditions;
-		this.pattern = effect.pattern;
+		this.predicate = effect.predicate;
 		this.weight = effect.weight;
 		this.type = effect.type;
 		this.variable = effect.variable;
@@ -104,11 +113,11 @@ public final class SoundEffect {
 	}
 
 	public SoundEffect(final SoundConfig record) {
-		this.sound = StringUtils.isEmpty(record.sound) ? "MISSING SOUND" : record.sound;
+		this.sound = StringUtils.isEmpty(record.sound) ? "MISSING SOUND" : record.sound.intern();
 		this.conditions = StringUtils.isEmpty(record.conditions) ? ".*" : record.conditions;
 		this.volume = record.volume == null ? 1.0F : record.volume.floatValue();
 		this.pitch = record.pitch == null ? 1.0F : record.pitch.floatValue();
-		this.pattern = Pattern.compile(this.conditions);
+		this.predicate = ConditionRegistry.compile(this.conditions);
 		this.weight = record.weight == null ? 10 : record.weight.intValue();
 		this.variable = record.variable != null && record.variable.booleanValue();
 		this.repeatDelayRandom = record.repeatDelayRandom == null ? 0 : record.repeatDelayRandom.intValue();
@@ -128,8 +137,12 @@ public final class SoundEffect {
 		}
 	}
 
-	public boolean matches(final String conditions) {
-		return pattern.matcher(conditions).matches();
+	public boolean matches(final long conditions) {
+		return this.predicate.matches(conditions);
+	}
+
+	public boolean isCompiled() {
+		return this.predicate.isCompiled();
 	}
 
 	public float getVolume() {
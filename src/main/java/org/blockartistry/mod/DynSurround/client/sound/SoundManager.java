@@ -26,7 +26,7 @@ package org.blockartistry.mod.DynSurround.client.sound;
 
 import java.nio.IntBuffer;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -44,57 +44,101 @@ import paulscode.sound.SoundSystemConfig;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.audio.ISound;
 import net.minecraft.client.audio.SoundCategory;
+import net.minecraft.client.audio.SoundEventAccessorComposite;
 import net.minecraft.client.audio.SoundPoolEntry;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.MathHelper;
+import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fml.relauncher.Side;
 
 @SideOnly(Side.CLIENT)
 public class SoundManager {
 
 	private static final int AGE_THRESHOLD_TICKS = 5;
-	private static final int SOUND_QUEUE_SLACK = 6;
-	private static final Map<SoundEffect, Emitter> emitters = new HashMap<SoundEffect, Emitter>();
 
+	// Spot sounds estimated to be quieter than this at the player are not
+	// played at all
+	private static final float MIN_AUDIBLE_VOLUME = 0.01F;
+
+	// Ambient emitters keyed by their interned sound name. The list holds the
+	// same emitters so they can be walked without an iterator.
+	private static final Map<String, Emitter> emitters = new IdentityHashMap<String, Emitter>();
+	private static final List<Emitter> emitterList = new ArrayList<Emitter>();
+	private static int ambientMark;
+
+	// Sounds waiting on a free channel
 	private static final List<SpotSound> pending = new ArrayList<SpotSound>();
 
+	// Sounds waiting on their tick delay
+	private static final DelayedSoundQueue delayed = new DelayedSoundQueue();
+
+	// Block sounds being gathered into clusters
+	private static final SpotSoundClusters clusters = new SpotSoundClusters();
+
+	// Category of each sound keyed by its interned name, and how many spot
+	// sounds were thrown away as inaudible
+	private static final Map<String, SoundCategory> categories = new IdentityHashMap<String, SoundCategory>();
+	private static int inaudible;
+
 	public static void clearSounds() {
-		for (final Emitter emit : emitters.values())
-			emit.fade();
+		for (int i = 0; i < emitterList.size(); i++)
+			emitterList.get(i).fade();
 		emitters.clear();
+		emitterList.clear();
 		pending.clear();
+		delayed.clear();
+		clusters.clear();
+		categories.clear();
+		inaudible = 0;
+		VoiceManager.clear();
 	}
 
+	/*
+	 * Makes the set of ambient emitters match the incoming list. Emitters
+	 * that are still wanted are marked and have their volume updated in
+	 * place, new sounds get an emitter, and unmarked emitters fade out. If a
+	 * sound is listed more than once the first entry wins.
+	 */
 	public static void queueAmbientSounds(final List<SoundEffect> sounds) {
-		// Need to remove sounds that are active but not
-		// in the incoming list
-		final List<SoundEffect> active = new ArrayList<SoundEffect>(emitters.keySet());
-		for (final SoundEffect effect : active) {
-			if (!sounds.contains(effect))
-				emitters.remove(effect).fade();
-			else {
-				final Emitter emitter = emitters.get(effect);
-				SoundEffect incoming = null;
-				for (final SoundEffect sound : sounds)
-					if (sound.equals(effect)) {
-						incoming = sound;
-						break;
-					}
-				emitter.setVolume(incoming.getVolume());
-				sounds.remove(effect);
+		final int mark = ++ambientMark;
+		for (int i = 0; i < sounds.size(); i++) {
+			final SoundEffect sound = sounds.get(i);
+			final Emitter emitter = emitters.get(sound.sound);
+			if (emitter == null) {
+				final Emitter e = new Emitter(sound);
+				e.mark = mark;
+				emitters.put(sound.sound, e);
+				emitterList.add(e);
+			} else if (emitter.mark != mark) {
+				emitter.mark = mark;
+				emitter.setVolume(sound.getVolume());
 			}
 		}
 
-		// Add sounds from the incoming list that are not
-		// active.
-		for (final SoundEffect sound : sounds)
-			emitters.put(sound, new Emitter(sound));
+		for (int i = emitterList.size() - 1; i >= 0; i--) {
+			final Emitter emitter = emitterList.get(i);
+			if (emitter.mark != mark) {
+				emitter.fade();
+				emitters.remove(emitter.effect.sound);
+				final int last = emitterList.size() - 1;
+				emitterList.set(i, emitterList.get(last));
+				emitterList.remove(last);
+			}
+		}
 	}
 
 	public static void update() {
-		for (final Emitter emitter : emitters.values())
-			emitter.update();
+		VoiceManager.update();
+
+		for (int i = 0; i < emitterList.size(); i++)
+			emitterList.get(i).update();
+
+		// Sounds coming off the delay queue and finished clusters compete
+		// for a channel the same as any other pending sound.
+		final int tick = EnvironState.getTickCounter();
+		delayed.drain(tick, pending);
+		clusters.flush(tick, pending);
 
 		final Iterator<SpotSound> pitr = pending.iterator();
 		while (pitr.hasNext()) {
@@ -102,8 +146,7 @@ public class SoundManager {
 			if (sound.getTickAge() >= AGE_THRESHOLD_TICKS) {
 				ModLog.debug("AGING: " + sound.toString());
 				pitr.remove();
-			} else if (sound.getTickAge() >= 0 && canFitSound()) {
-				playSound(sound);
+			} else if (VoiceManager.play(sound, sound.getSoundEffect())) {
 				pitr.remove();
 			}
 		}
@@ -117,10 +160,6 @@ public class SoundManager {
 		return SoundSystemConfig.getNumberNormalChannels() + SoundSystemConfig.getNumberStreamingChannels();
 	}
 
-	private static boolean canFitSound() {
-		return currentSoundCount() < (SoundSystemConfig.getNumberNormalChannels() - SOUND_QUEUE_SLACK);
-	}
-
 	static void playSound(final ISound sound) {
 		if (sound != null) {
 			if (ModOptions.enableDebugLogging)
@@ -136,30 +175,82 @@ public class SoundManager {
 
 		final SpotSound s = new SpotSound(player, sound);
 
-		if (!canFitSound())
+		if (!VoiceManager.play(s, sound))
 			pending.add(s);
-		else
-			playSound(s);
+	}
+
+	private static SoundCategory getCategory(final SoundEffect sound) {
+		SoundCategory category = categories.get(sound.sound);
+		if (category == null) {
+			final SoundEventAccessorComposite accessor = Minecraft.getMinecraft().getSoundHandler()
+					.getSound(new ResourceLocation(sound.sound));
+			category = accessor != null ? accessor.getSoundCategory() : SoundCategory.MASTER;
+			categories.put(sound.sound, category);
+		}
+		return category;
+	}
+
+	/*
+	 * Rough estimate of how loud the sound will be at the player using the
+	 * same linear fall off as the sound system. Done before a sound object
+	 * is made so that sounds that can't be heard cost nothing.
+	 */
+	private static boolean isAudible(final BlockPos pos, final SoundEffect sound) {
+		final float volume = sound.volume * ModOptions.masterSoundScaleFactor;
+		final float range = Math.max(volume, 1.0F) * 16.0F;
+		final double distanceSq = EnvironState.distanceToPlayer(pos.getX() + 0.5D, pos.getY() + 0.5D,
+				pos.getZ() + 0.5D);
+		if (distanceSq >= range * range)
+			return false;
+
+		final float falloff = 1.0F - MathHelper.sqrt_double(distanceSq) / range;
+		final float gain = volume * falloff * getSoundCategoryVolume(getCategory(sound))
+				* Minecraft.getMinecraft().gameSettings.getSoundLevel(SoundCategory.MASTER);
+		return gain >= MIN_AUDIBLE_VOLUME;
 	}
 
 	public static void playSoundAt(final BlockPos pos, final SoundEffect sound, final int tickDelay) {
-		if (tickDelay > 0 && !canFitSound())
+		if (!isAudible(pos, sound)) {
+			inaudible++;
+			return;
+		}
+
+		if (tickDelay > 0) {
+			if (!VoiceManager.hasFreeVoice())
+				delayed.drop();
+			else
+				delayed.add(new SpotSound(pos, sound, tickDelay));
 			return;
+		}
 
-		final SpotSound s = new SpotSound(pos, sound, tickDelay);
+		if (ModOptions.soundClusterRadius > 0) {
+			clusters.add(pos, sound, EnvironState.getTickCounter());
+			return;
+		}
 
-		if (tickDelay > 0 || !canFitSound())
+		final SpotSound s = new SpotSound(pos, sound, 0);
+		if (!VoiceManager.play(s, sound))
 			pending.add(s);
-		else
-			playSound(s);
+	}
+
+	/*
+	 * Plays a sound through the voice manager so that it competes for a
+	 * channel with the other sounds of the mod.
+	 */
+	static boolean playSound(final ISound sound, final SoundEffect effect) {
+		return VoiceManager.play(sound, effect);
 	}
 
 	public static List<String> getSounds() {
 		final List<String> result = new ArrayList<String>();
-		for (final SoundEffect effect : emitters.keySet())
-			result.add("EMITTER: " + effect.toString() + "[vol:" + emitters.get(effect).getVolume() + "]");
+		result.add(VoiceManager.getStats());
+		result.add("Delayed: " + delayed.size() + " (dropped " + delayed.getDropped() + ")");
+		result.add(clusters.getStats());
+		result.add("Inaudible: " + inaudible);
+		for (final Emitter emitter : emitterList)
+			result.add("EMITTER: " + emitter.effect.toString() + "[vol:" + emitter.getVolume() + "]");
 		for (final SpotSound effect : pending)
-			result.add((effect.getTickAge() < 0 ? "DELAYED: " : "PENDING: ") + effect.getSoundEffect().toString());
+			result.add("PENDING: " + effect.getSoundEffect().toString());
 		return result;
 	}
 
@@ -207,13 +298,13 @@ public class SoundManager {
 		} else if (category == null) {
 			ModLog.warn("getNormalizedVolume(): Null category parameter");
 		} else {
-			final String soundName = sound.getSoundLocation().toString();
+			final ResourceLocation location = sound.getSoundLocation();
 			try {
-				final float volumeScale = SoundRegistry.getVolumeScale(soundName);
+				final float volumeScale = SoundRegistry.getVolumeScale(location);
 				result = (float) MathHelper.clamp_double((double) sound.getVolume() * poolEntry.getVolume()
 						* (double) getSoundCategoryVolume(category) * volumeScale, 0.0D, 1.0D);
 			} catch (final Throwable t) {
-				ModLog.error("getNormalizedVolume(): Unable to calculate " + soundName, t);
+				ModLog.error("getNormalizedVolume(): Unable to calculate " + location, t);
 			}
 		}
 		return result;
@@ -58,6 +58,22 @@ public class SpotSound extends PositionedSound {
 		this.timeMark = EnvironState.getTickCounter() + delay;
 	}
 
+	SpotSound(final double x, final double y, final double z, final SoundEffect sound, final float volume) {
+		super(new ResourceLocation(sound.sound));
+
+		this.sound = sound;
+		this.volume = volume;
+		this.pitch = sound.getPitch(EnvironState.RANDOM);
+		this.repeat = false;
+		this.repeatDelay = 0;
+
+		this.xPosF = (float) x;
+		this.yPosF = (float) y;
+		this.zPosF = (float) z;
+
+		this.timeMark = EnvironState.getTickCounter();
+	}
+
 	public SpotSound(final EntityPlayer player, final SoundEffect sound) {
 		super(new ResourceLocation(sound.sound));
 
@@ -86,6 +102,10 @@ public class SpotSound extends PositionedSound {
 		return EnvironState.getTickCounter() - this.timeMark;
 	}
 
+	int getTimeMark() {
+		return this.timeMark;
+	}
+
 	public SoundEffect getSoundEffect() {
 		return this.sound;
 	}
@@ -0,0 +1,146 @@
+/*
+ * This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client.sound;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.blockartistry.mod.DynSurround.ModOptions;
+
+import net.minecraft.util.BlockPos;
+import net.minecraft.util.MathHelper;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/*
+ * Gathers block spot sounds of the same effect that are requested close
+ * together in space and time. Once a cluster has been open for the
+ * configured window it is played as a single sound at the volume weighted
+ * center of its requests, louder by the square root of how many were
+ * merged.
+ */
+@SideOnly(Side.CLIENT)
+final class SpotSoundClusters {
+
+	// Cap on how much louder a cluster can be than a single request
+	private static final float MAX_CLUSTER_GAIN = 2.0F;
+
+	private static final class Cluster {
+		SoundEffect effect;
+		double x;
+		double y;
+		double z;
+		float weight;
+		int count;
+		int tick;
+
+		double distanceSq(final double px, final double py, final double pz) {
+			final double dX = this.x / this.weight - px;
+			final double dY = this.y / this.weight - py;
+			final double dZ = this.z / this.weight - pz;
+			return dX * dX + dY * dY + dZ * dZ;
+		}
+
+		void add(final double px, final double py, final double pz, final float w) {
+			this.x += px * w;
+			this.y += py * w;
+			this.z += pz * w;
+			this.weight += w;
+			this.count++;
+		}
+	}
+
+	private final List<Cluster> open = new ArrayList<Cluster>();
+	private final List<Cluster> free = new ArrayList<Cluster>();
+	private int merged;
+	private int emitted;
+
+	public void clear() {
+		for (int i = 0; i < this.open.size(); i++)
+			this.open.get(i).effect = null;
+		this.free.addAll(this.open);
+		this.open.clear();
+		this.merged = 0;
+		this.emitted = 0;
+	}
+
+	/*
+	 * Adds the request to a nearby cluster of the same effect, or opens a
+	 * new one.
+	 */
+	public void add(final BlockPos pos, final SoundEffect effect, final int tick) {
+		final double px = pos.getX() + 0.5D;
+		final double py = pos.getY() + 0.5D;
+		final double pz = pos.getZ() + 0.5D;
+		// Zero weight would leave the centroid undefined
+		final float w = Math.max(effect.volume, 0.01F);
+		final double radiusSq = ModOptions.soundClusterRadius * ModOptions.soundClusterRadius;
+
+		for (int i = 0; i < this.open.size(); i++) {
+			final Cluster c = this.open.get(i);
+			if (c.effect == effect && c.distanceSq(px, py, pz) <= radiusSq) {
+				c.add(px, py, pz, w);
+				this.merged++;
+				return;
+			}
+		}
+
+		final Cluster c = this.free.isEmpty() ? new Cluster() : this.free.remove(this.free.size() - 1);
+		c.effect = effect;
+		c.x = c.y = c.z = 0;
+		c.weight = 0;
+		c.count = 0;
+		c.tick = tick;
+		c.add(px, py, pz, w);
+		this.open.add(c);
+	}
+
+	/*
+	 * Turns the clusters whose window has passed into sounds and adds them
+	 * to the supplied list.
+	 */
+	public void flush(final int tick, final List<SpotSound> out) {
+		for (int i = this.open.size() - 1; i >= 0; i--) {
+			final Cluster c = this.open.get(i);
+			if (tick - c.tick < ModOptions.soundClusterWindow)
+				continue;
+
+			final float gain = Math.min(MathHelper.sqrt_float(c.count), MAX_CLUSTER_GAIN);
+			out.add(new SpotSound(c.x / c.weight, c.y / c.weight, c.z / c.weight, c.effect,
+					c.effect.volume * gain));
+			this.emitted++;
+
+			c.effect = null;
+			final int last = this.open.size() - 1;
+			this.open.set(i, this.open.get(last));
+			this.open.remove(last);
+			this.free.add(c);
+		}
+	}
+
+	public String getStats() {
+		return "Clusters: open " + this.open.size() + ", merged " + this.merged + ", emitted " + this.emitted;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client.sound;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.blockartistry.mod.DynSurround.client.EnvironStateHandler.EnvironState;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.audio.ISound;
+import net.minecraft.client.audio.SoundHandler;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import paulscode.sound.SoundSystemConfig;
+
+/*
+ * Hands out the normal sound channels to the sounds the mod plays. The
+ * channel count is sampled from the sound system once a tick and kept
+ * current as sounds are started and stolen so a play request does not have
+ * to poll the sound system. When the channels run out the quietest or
+ * farthest voice of a lower priority is stopped to make room.
+ */
+@SideOnly(Side.CLIENT)
+final class VoiceManager {
+
+	// Channels left for Minecraft's own sounds between samples
+	private static final int SOUND_QUEUE_SLACK = 6;
+
+	// Sounds the mod started along with their effects
+	private static final List<ISound> voices = new ArrayList<ISound>();
+	private static final List<SoundEffect> effects = new ArrayList<SoundEffect>();
+
+	private static int inUse;
+	private static int stolen;
+	private static int refused;
+
+	private VoiceManager() {
+	}
+
+	public static void clear() {
+		voices.clear();
+		effects.clear();
+		stolen = 0;
+		refused = 0;
+	}
+
+	/*
+	 * Called once a tick to resample the channel count and forget the
+	 * voices that have finished.
+	 */
+	public static void update() {
+		final SoundHandler handler = Minecraft.getMinecraft().getSoundHandler();
+		inUse = handler.sndManager.playingSounds.size();
+		for (int i = voices.size() - 1; i >= 0; i--) {
+			if (!handler.isSoundPlaying(voices.get(i)))
+				remove(i);
+		}
+	}
+
+	public static int getLimit() {
+		return SoundSystemConfig.getNumberNormalChannels() - SOUND_QUEUE_SLACK;
+	}
+
+	public static boolean hasFreeVoice() {
+		return inUse < getLimit();
+	}
+
+	/*
+	 * Plays the sound if a channel is free or one can be taken from a
+	 * lesser sound. Returns false if the sound was not played.
+	 */
+	public static boolean play(final ISound sound, final SoundEffect effect) {
+		if (sound == null)
+			return false;
+
+		if (!hasFreeVoice() && !steal(effect.type.priority, audibility(sound))) {
+			refused++;
+			return false;
+		}
+
+		SoundManager.playSound(sound);
+		inUse++;
+		voices.add(sound);
+		effects.add(effect);
+		return true;
+	}
+
+	/*
+	 * Stops the voice with the lowest priority, and within that priority the
+	 * one that is quietest at the player, provided it ranks below the
+	 * incoming sound.
+	 */
+	private static boolean steal(final int priority, final float audibility) {
+		int victim = -1;
+		int victimPriority = priority;
+		float victimAudibility = audibility;
+
+		for (int i = 0; i < voices.size(); i++) {
+			final int p = effects.get(i).type.priority;
+			if (p > victimPriority)
+				continue;
+			final float a = audibility(voices.get(i));
+			if (p < victimPriority || a < victimAudibility) {
+				victim = i;
+				victimPriority = p;
+				victimAudibility = a;
+			}
+		}
+
+		if (victim == -1)
+			return false;
+
+		Minecraft.getMinecraft().getSoundHandler().stopSound(voices.get(victim));
+		remove(victim);
+		inUse--;
+		stolen++;
+		return true;
+	}
+
+	private static float audibility(final ISound sound) {
+		final double distanceSq = EnvironState.distanceToPlayer(sound.getXPosF(), sound.getYPosF(),
+				sound.getZPosF());
+		return (float) (sound.getVolume() / (1.0D + distanceSq));
+	}
+
+	private static void remove(final int index) {
+		final int last = voices.size() - 1;
+		voices.set(index, voices.get(last));
+		voices.remove(last);
+		effects.set(index, effects.get(last));
+		effects.remove(last);
+	}
+
+	public static String getStats() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("Voices: ").append(inUse).append('/').append(getLimit());
+		builder.append(" (mod ").append(voices.size()).append(", stolen ").append(stolen);
+		builder.append(", refused ").append(refused).append(')');
+		return builder.toString();
+	}
+}
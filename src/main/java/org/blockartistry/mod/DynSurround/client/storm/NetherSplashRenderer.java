@@ -28,7 +28,7 @@ import org.blockartistry.mod.DynSurround.client.EnvironStateHandler.EnvironState
 import org.blockartistry.mod.DynSurround.client.fx.particle.ParticleFactory;
 
 import net.minecraft.block.Block;
-import net.minecraft.client.particle.EntityFX;
+import net.minecraft.client.particle.IParticleFactory;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.MathHelper;
@@ -42,26 +42,30 @@ public class NetherSplashRenderer extends StormSplashRenderer {
 	}
 
 	@Override
-	protected EntityFX getBlockParticleFX(final Block block, final boolean dust, final World world, final double x,
-			final double y, final double z) {
-		if (dust)
-			return ParticleFactory.smoke.getEntityFX(0, world, x, y, z, 0, 0, 0);
-		return null;
+	protected IParticleFactory getBlockParticleFactory(final Block block, final boolean dust, final World world) {
+		return dust ? ParticleFactory.smoke : null;
 	}
 
 	@Override
-	protected BlockPos getPrecipitationHeight(final World world, final int range, final BlockPos pos) {
+	protected int getPrecipitationHeight(final World world, final int range, final int slot, final int x,
+			final int z) {
 		final int y = MathHelper.floor_double(EnvironState.getPlayer().posY);
+		final BlockPos.MutableBlockPos p = new BlockPos.MutableBlockPos();
 		boolean airBlockFound = false;
 		for (int i = range; i >= -range; i--) {
-			final BlockPos p = new BlockPos(pos.getX(), y + i, pos.getZ());
+			p.set(x, y + i, z);
 			final Block block = world.getBlockState(p).getBlock();
 			if (airBlockFound && block != Blocks.air && block.getMaterial().isSolid())
-				return p.up();
+				return y + i + 1;
 			if (block == Blocks.air)
 				airBlockFound = true;
 		}
 
-		return new BlockPos(pos.getX(), 128, pos.getZ());
+		return 128;
+	}
+
+	@Override
+	protected Block getSurfaceBlock(final World world, final int slot, final int x, final int y, final int z) {
+		return world.getBlockState(new BlockPos(x, y - 1, z)).getBlock();
 	}
 }
@@ -0,0 +1,273 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client.storm;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.blockartistry.mod.DynSurround.util.Color;
+
+/*
+ * Retained precipitation geometry for StormRenderer. The quads for each column
+ * are built once relative to an origin block and only their texture
+ * coordinates and alpha are rewritten each frame. Rain, snow and dust are
+ * kept in separate batches so each can be drawn with a single texture bind.
+ *
+ * Vertex data is laid out as PARTICLE_POSITION_TEX_COLOR_LMAP (position,
+ * texture, color, lightmap) so a batch can be handed to
+ * WorldRenderer.addVertexData() as is. There is no GL in here.
+ */
+public final class StormGeometry {
+
+	public static final int RAIN = 0;
+	public static final int SNOW = 1;
+	public static final int DUST = 2;
+	public static final int BATCH_COUNT = 3;
+
+	public static final int VERTEX_SIZE = 7;
+	public static final int QUAD_SIZE = VERTEX_SIZE * 4;
+
+	private static final int TEX_U = 3;
+	private static final int TEX_V = 4;
+	private static final int COLOR = 5;
+	private static final int LIGHTMAP = 6;
+
+	private static final int[] NO_DATA = {};
+
+	// WorldRenderer writes through a native order buffer
+	private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
+	private static final class Batch {
+
+		public final int[] scratch;
+		public int[] data = NO_DATA;
+		public int count;
+
+		// Per column animation state
+		public final float[] centerX;
+		public final float[] centerZ;
+		public final int[] bottom;
+		public final int[] top;
+		public final int[] hash;
+		public final double[] speed;
+		public final int[] rgb;
+		public final float[] factor;
+		public final double[] u0;
+		public final float[] g1;
+		public final double[] v0;
+		public final float[] g2;
+
+		public Batch(final int capacity) {
+			this.scratch = new int[capacity * QUAD_SIZE];
+			this.centerX = new float[capacity];
+			this.centerZ = new float[capacity];
+			this.bottom = new int[capacity];
+			this.top = new int[capacity];
+			this.hash = new int[capacity];
+			this.speed = new double[capacity];
+			this.rgb = new int[capacity];
+			this.factor = new float[capacity];
+			this.u0 = new double[capacity];
+			this.g1 = new float[capacity];
+			this.v0 = new double[capacity];
+			this.g2 = new float[capacity];
+		}
+	}
+
+	private final Batch[] batches = new Batch[BATCH_COUNT];
+	private int originX;
+	private int originY;
+	private int originZ;
+	private float range;
+
+	public StormGeometry(final int maxRange) {
+		final int side = maxRange * 2 + 1;
+		for (int i = 0; i < BATCH_COUNT; i++)
+			this.batches[i] = new Batch(side * side);
+	}
+
+	public int getOriginX() {
+		return this.originX;
+	}
+
+	public int getOriginY() {
+		return this.originY;
+	}
+
+	public int getOriginZ() {
+		return this.originZ;
+	}
+
+	public void begin(final int originX, final int originY, final int originZ, final int range) {
+		this.originX = originX;
+		this.originY = originY;
+		this.originZ = originZ;
+		this.range = range;
+		for (final Batch batch : this.batches)
+			batch.count = 0;
+	}
+
+	/*
+	 * Adds a rain column. The hash feeds the per column texture offset and
+	 * speed is the column's scroll rate.
+	 */
+	public void addRain(final int gridX, final int gridZ, final double rainX, final double rainY, final int bottom,
+			final int top, final int light, final int hash, final double speed) {
+		final Batch batch = this.batches[RAIN];
+		final int i = add(batch, gridX, gridZ, rainX, rainY, bottom, top, light);
+		batch.hash[i] = hash;
+		batch.speed[i] = speed;
+	}
+
+	/*
+	 * Adds a snow or dust column. The texture drifts by factor * g1 per tick
+	 * horizontally and by g2 / 1000 vertically from the u0/v0 starting point.
+	 */
+	public void addSnow(final boolean dust, final int gridX, final int gridZ, final double rainX, final double rainY,
+			final int bottom, final int top, final int light, final int rgb, final float factor, final double u0,
+			final float g1, final double v0, final float g2) {
+		final Batch batch = this.batches[dust ? DUST : SNOW];
+		final int i = add(batch, gridX, gridZ, rainX, rainY, bottom, top, light);
+		batch.rgb[i] = rgb;
+		batch.factor[i] = factor;
+		batch.u0[i] = u0;
+		batch.g1[i] = g1;
+		batch.v0[i] = v0;
+		batch.g2[i] = g2;
+	}
+
+	private int add(final Batch batch, final int gridX, final int gridZ, final double rainX, final double rainY,
+			final int bottom, final int top, final int light) {
+		final int i = batch.count++;
+		final double x = gridX - this.originX + 0.5D;
+		final double z = gridZ - this.originZ + 0.5D;
+		batch.centerX[i] = (float) x;
+		batch.centerZ[i] = (float) z;
+		batch.bottom[i] = bottom;
+		batch.top[i] = top;
+
+		final int lightmap = packLightmap(light >> 16 & 65535, light & 65535);
+		final int yBottom = bottom - this.originY;
+		final int yTop = top - this.originY;
+		final int[] data = batch.scratch;
+		int k = i * QUAD_SIZE;
+		k = vertex(data, k, x - rainX, yBottom, z - rainY, lightmap);
+		k = vertex(data, k, x + rainX, yBottom, z + rainY, lightmap);
+		k = vertex(data, k, x + rainX, yTop, z + rainY, lightmap);
+		vertex(data, k, x - rainX, yTop, z - rainY, lightmap);
+		return i;
+	}
+
+	private static int vertex(final int[] data, final int k, final double x, final int y, final double z,
+			final int lightmap) {
+		data[k] = Float.floatToRawIntBits((float) x);
+		data[k + 1] = Float.floatToRawIntBits(y);
+		data[k + 2] = Float.floatToRawIntBits((float) z);
+		data[k + LIGHTMAP] = lightmap;
+		return k + VERTEX_SIZE;
+	}
+
+	public void end() {
+		for (final Batch batch : this.batches)
+			batch.data = batch.count == 0 ? NO_DATA : Arrays.copyOf(batch.scratch, batch.count * QUAD_SIZE);
+	}
+
+	public int getQuadCount(final int batch) {
+		return this.batches[batch].count;
+	}
+
+	public int[] getVertexData(final int batch) {
+		return this.batches[batch].data;
+	}
+
+	/*
+	 * Rewrites the texture coordinates and alpha of every quad for the frame.
+	 * The viewer position is only used for the distance fade.
+	 */
+	public void update(final int updateCount, final float partialTicks, final double viewX, final double viewZ,
+			final float alphaRatio) {
+		final double px = viewX - this.originX;
+		final double pz = viewZ - this.originZ;
+
+		final Batch rain = this.batches[RAIN];
+		for (int i = 0; i < rain.count; i++) {
+			final double scroll = ((double) (updateCount + rain.hash[i] & 31) + (double) partialTicks) / 32.0D
+					* rain.speed[i];
+			final float alpha = alpha(rain, i, px, pz, 0.5F, alphaRatio);
+			final int color = Color.vertexColor(255, 255, 255, (int) (alpha * 255.0F));
+			texture(rain.data, i, 0.0D, 1.0D, rain.bottom[i] * 0.25D + scroll, rain.top[i] * 0.25D + scroll,
+					color);
+		}
+
+		final float f1 = (float) updateCount + partialTicks;
+		final double drift = (double) (((float) (updateCount & 511) + partialTicks) / 512.0F);
+		for (int b = SNOW; b <= DUST; b++) {
+			final Batch snow = this.batches[b];
+			for (int i = 0; i < snow.count; i++) {
+				final double u = snow.u0[i] + (double) f1 * snow.factor[i] * (double) snow.g1[i];
+				final double v = snow.v0[i] + (double) (f1 * snow.g2[i]) * 0.001D + drift;
+				final float alpha = alpha(snow, i, px, pz, 0.3F, alphaRatio);
+				final int color = Color.vertexColor(snow.rgb[i], alpha);
+				texture(snow.data, i, u, 1.0D + u, snow.bottom[i] * 0.25D + v, snow.top[i] * 0.25D + v, color);
+			}
+		}
+	}
+
+	private float alpha(final Batch batch, final int i, final double px, final double pz, final float spread,
+			final float alphaRatio) {
+		final double dx = batch.centerX[i] - px;
+		final double dz = batch.centerZ[i] - pz;
+		final float f = (float) Math.sqrt(dx * dx + dz * dz) / this.range;
+		return ((1.0F - f * f) * spread + 0.5F) * alphaRatio;
+	}
+
+	private static void texture(final int[] data, final int quad, final double u0, final double u1,
+			final double vBottom, final double vTop, final int color) {
+		final int k = quad * QUAD_SIZE;
+		final int lu = Float.floatToRawIntBits((float) u0);
+		final int hu = Float.floatToRawIntBits((float) u1);
+		final int bv = Float.floatToRawIntBits((float) vBottom);
+		final int tv = Float.floatToRawIntBits((float) vTop);
+		data[k + TEX_U] = lu;
+		data[k + TEX_V] = bv;
+		data[k + COLOR] = color;
+		data[k + VERTEX_SIZE + TEX_U] = hu;
+		data[k + VERTEX_SIZE + TEX_V] = bv;
+		data[k + VERTEX_SIZE + COLOR] = color;
+		data[k + VERTEX_SIZE * 2 + TEX_U] = hu;
+		data[k + VERTEX_SIZE * 2 + TEX_V] = tv;
+		data[k + VERTEX_SIZE * 2 + COLOR] = color;
+		data[k + VERTEX_SIZE * 3 + TEX_U] = lu;
+		data[k + VERTEX_SIZE * 3 + TEX_V] = tv;
+		data[k + VERTEX_SIZE * 3 + COLOR] = color;
+	}
+
+	// Same packing as WorldRenderer.lightmap(), which writes v as the first
+	// short and u as the second into a native order buffer
+	private static int packLightmap(final int u, final int v) {
+		if (LITTLE_ENDIAN)
+			return (u & 0xFFFF) << 16 | (v & 0xFFFF);
+		return (v & 0xFFFF) << 16 | (u & 0xFFFF);
+	}
+}
@@ -24,9 +24,10 @@
 
 package org.blockartistry.mod.DynSurround.client.storm;
 
+import org.blockartistry.mod.DynSurround.ModOptions;
 import org.blockartistry.mod.DynSurround.Module;
 import org.blockartistry.mod.DynSurround.client.IAtmosRenderer;
-import org.blockartistry.mod.DynSurround.client.WeatherUtils;
+import org.blockartistry.mod.DynSurround.client.QualityGovernor;
 import org.blockartistry.mod.DynSurround.data.BiomeRegistry;
 import org.blockartistry.mod.DynSurround.data.DimensionRegistry;
 import org.blockartistry.mod.DynSurround.util.Color;
@@ -44,7 +45,6 @@ import net.minecraft.util.BlockPos;
 import net.minecraft.util.MathHelper;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
-import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.client.IRenderHandler;
 import net.minecraftforge.fml.relauncher.Side;
@@ -74,10 +74,102 @@ public class StormRenderer implements IAtmosRenderer {
 		}
 	}
 
-	private static BlockPos getPrecipitationHeight(final World world, final BlockPos pos) {
-		if (world.provider.getDimensionId() == -1)
-			return new BlockPos(pos.getX(), 0, pos.getZ());
-		return world.getPrecipitationHeight(pos);
+	private static final int MAX_RANGE = 10;
+
+	private final StormGeometry geometry = new StormGeometry(MAX_RANGE);
+	private final Color snowColor = new Color(Color.WHITE);
+	private final BlockPos.MutableBlockPos lightPos = new BlockPos.MutableBlockPos();
+	private int lastX = Integer.MIN_VALUE;
+	private int lastY;
+	private int lastZ;
+	private int lastRange;
+	private int lastVersion;
+	private boolean lastDust;
+	private boolean lastNether;
+
+	// The textures can be swapped out by StormProperties
+	private static ResourceLocation getTexture(final int batch) {
+		switch (batch) {
+		case StormGeometry.RAIN:
+			return locationRainPng;
+		case StormGeometry.SNOW:
+			return locationSnowPng;
+		default:
+			return locationDustPng;
+		}
+	}
+
+	/*
+	 * Rebuilds the column quads around the player. Only needed when the player
+	 * moves to another block or the column data has changed.
+	 */
+	private void rebuild(final World world, final int playerX, final int playerY, final int playerZ,
+			final int range, final boolean isNether) {
+		this.geometry.begin(playerX, playerY, playerZ, range);
+
+		for (int gridZ = playerZ - range; gridZ <= playerZ + range; ++gridZ) {
+			for (int gridX = playerX - range; gridX <= playerX + range; ++gridX) {
+				final int slot = WeatherColumnCache.get(world, gridX, gridZ);
+				final boolean hasDust = WeatherColumnCache.hasDust(slot);
+				if (!hasDust && !WeatherColumnCache.hasPrecipitation(slot))
+					continue;
+
+				// The nether precipitation height is the roof
+				final int precipHeight = isNether ? 0 : WeatherColumnCache.getPrecipitationHeight(slot);
+				final int bottom = Math.max(playerY - range, precipHeight);
+				final int top = Math.max(playerY + range, precipHeight);
+				if (bottom == top)
+					continue;
+
+				final int idx = (gridZ - playerZ + 16) * 32 + gridX - playerX + 16;
+				final double rainX = (double) RAIN_X_COORDS[idx] * 0.5D;
+				final double rainY = (double) RAIN_Y_COORDS[idx] * 0.5D;
+				// Like vanilla the column is lit from the player's height when
+				// that is above the precipitation height. Only the light at
+				// the precipitation height is cached.
+				final int lightY = Math.max(playerY, precipHeight);
+				final int light;
+				if (lightY == WeatherColumnCache.getPrecipitationHeight(slot)) {
+					light = WeatherColumnCache.getCombinedLight(slot);
+				} else {
+					this.lightPos.set(gridX, lightY, gridZ);
+					light = world.getCombinedLight(this.lightPos, 0);
+				}
+				final boolean cold = WeatherColumnCache.isCold(slot);
+
+				random.setSeed(
+						(long) (gridX * gridX * 3121 + gridX * 45238971 ^ gridZ * gridZ * 418711 + gridZ * 13761));
+
+				if (!hasDust && !cold) {
+					final int hash = gridX * gridX * 3121 + gridX * 45238971 + gridZ * gridZ * 418711 + gridZ * 13761;
+					this.geometry.addRain(gridX, gridZ, rainX, rainY, bottom, top, light, hash,
+							3.0D + random.nextDouble());
+				} else {
+					final Color color = this.snowColor.set(Color.WHITE);
+					if (isNether) {
+						final Color c = BiomeRegistry.getDustColor(WeatherColumnCache.getBiome(slot));
+						if (c != null)
+							color.mix(c);
+					}
+
+					// The 0.2F factor was originally 0.01F. It affects the
+					// horizontal movement of particles, which works well for
+					// dust.
+					final float factor = hasDust ? 0.2F : 0.01F;
+					final double u0 = random.nextDouble();
+					final float g1 = (float) random.nextGaussian();
+					final double v0 = random.nextDouble();
+					final float g2 = (float) random.nextGaussian();
+
+					// If cold enough the dust texture will be snow that blows
+					// sideways
+					this.geometry.addSnow(hasDust && !cold, gridX, gridZ, rainX, rainY, bottom, top,
+							(light * 3 + 15728880) / 4, color.rgb(), factor, u0, g1, v0, g2);
+				}
+			}
+		}
+
+		this.geometry.end();
 	}
 
 	/**
@@ -107,12 +199,31 @@ public class StormRenderer implements IAtmosRenderer {
 		else
 			alphaRatio = rainStrength;
 
-		renderer.enableLightmap();
-
 		final Entity entity = renderer.mc.getRenderViewEntity();
 		final int playerX = MathHelper.floor_double(entity.posX);
 		final int playerY = MathHelper.floor_double(entity.posY);
 		final int playerZ = MathHelper.floor_double(entity.posZ);
+		final int range = QualityGovernor.scale(renderer.mc.gameSettings.fancyGraphics ? 10 : 5, 3);
+		final boolean isNether = world.provider.getDimensionId() == -1;
+		final boolean dust = ModOptions.allowDesertFog && !StormProperties.doVanilla();
+		final int version = WeatherColumnCache.getVersion();
+
+		if (playerX != this.lastX || playerY != this.lastY || playerZ != this.lastZ || range != this.lastRange
+				|| version != this.lastVersion || dust != this.lastDust || isNether != this.lastNether) {
+			rebuild(world, playerX, playerY, playerZ, range, isNether);
+			this.lastX = playerX;
+			this.lastY = playerY;
+			this.lastZ = playerZ;
+			this.lastRange = range;
+			this.lastVersion = WeatherColumnCache.getVersion();
+			this.lastDust = dust;
+			this.lastNether = isNether;
+		}
+
+		this.geometry.update(renderer.rendererUpdateCount, partialTicks, entity.posX, entity.posZ, alphaRatio);
+
+		renderer.enableLightmap();
+
 		final Tessellator tess = Tessellator.getInstance();
 		final WorldRenderer worldrenderer = tess.getWorldRenderer();
 
@@ -126,153 +237,21 @@ public class StormRenderer implements IAtmosRenderer {
 		final double spawnY = entity.lastTickPosY + (entity.posY - entity.lastTickPosY) * (double) partialTicks;
 		final double spawnZ = entity.lastTickPosZ + (entity.posZ - entity.lastTickPosZ) * (double) partialTicks;
 
-		final int locY = MathHelper.floor_double(spawnY);
-		final int range = renderer.mc.gameSettings.fancyGraphics ? 10 : 5;
-
-		int j1 = -1;
-		float f1 = (float) renderer.rendererUpdateCount + partialTicks;
-		worldrenderer.setTranslation(-spawnX, -spawnY, -spawnZ);
 		GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
-		BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-
-		for (int gridZ = playerZ - range; gridZ <= playerZ + range; ++gridZ) {
-			for (int gridX = playerX - range; gridX <= playerX + range; ++gridX) {
-				final int idx = (gridZ - playerZ + 16) * 32 + gridX - playerX + 16;
-				final double rainX = (double) RAIN_X_COORDS[idx] * 0.5D;
-				final double rainY = (double) RAIN_Y_COORDS[idx] * 0.5D;
-				mutable.set(gridX, 0, gridZ);
-				final BiomeGenBase biome = world.getBiomeGenForCoords(mutable);
-				final boolean hasDust = WeatherUtils.biomeHasDust(biome);
-
-				if (hasDust || BiomeRegistry.hasPrecipitation(biome)) {
-					final int precipHeight = getPrecipitationHeight(world, mutable).getY();
-					int k2 = playerY - range;
-					int l2 = playerY + range;
-
-					if (k2 < precipHeight) {
-						k2 = precipHeight;
-					}
-
-					if (l2 < precipHeight) {
-						l2 = precipHeight;
-					}
-
-					int i3 = precipHeight;
-
-					if (precipHeight < locY) {
-						i3 = locY;
-					}
-
-					if (k2 != l2) {
-						random.setSeed((long) (gridX * gridX * 3121 + gridX * 45238971
-								^ gridZ * gridZ * 418711 + gridZ * 13761));
-						mutable.set(gridX, k2, gridZ);
-						final float biomeTemp = biome.getFloatTemperature(mutable);
-						final float heightTemp = world.getWorldChunkManager().getTemperatureAtHeight(biomeTemp,
-								precipHeight);
-
-						if (!hasDust && heightTemp >= 0.15F) {
-							if (j1 != 0) {
-								if (j1 >= 0) {
-									tess.draw();
-								}
-
-								j1 = 0;
-								renderer.mc.getTextureManager().bindTexture(locationRainPng);
-								worldrenderer.begin(GL11.GL_QUADS,
-										DefaultVertexFormats.PARTICLE_POSITION_TEX_COLOR_LMAP);
-							}
-
-							double d5 = ((double) (renderer.rendererUpdateCount + gridX * gridX * 3121
-									+ gridX * 45238971 + gridZ * gridZ * 418711 + gridZ * 13761 & 31)
-									+ (double) partialTicks) / 32.0D * (3.0D + random.nextDouble());
-							double d6 = (double) ((float) gridX + 0.5F) - entity.posX;
-							double d7 = (double) ((float) gridZ + 0.5F) - entity.posZ;
-							float f3 = MathHelper.sqrt_double(d6 * d6 + d7 * d7) / (float) range;
-							float f4 = ((1.0F - f3 * f3) * 0.5F + 0.5F) * alphaRatio;
-							mutable.set(gridX, i3, gridZ);
-							int j3 = world.getCombinedLight(mutable, 0);
-							int k3 = j3 >> 16 & 65535;
-							int l3 = j3 & 65535;
-							worldrenderer.pos((double) gridX - rainX + 0.5D, (double) k2, (double) gridZ - rainY + 0.5D)
-									.tex(0.0D, (double) k2 * 0.25D + d5).color(1.0F, 1.0F, 1.0F, f4).lightmap(k3, l3)
-									.endVertex();
-							worldrenderer.pos((double) gridX + rainX + 0.5D, (double) k2, (double) gridZ + rainY + 0.5D)
-									.tex(1.0D, (double) k2 * 0.25D + d5).color(1.0F, 1.0F, 1.0F, f4).lightmap(k3, l3)
-									.endVertex();
-							worldrenderer.pos((double) gridX + rainX + 0.5D, (double) l2, (double) gridZ + rainY + 0.5D)
-									.tex(1.0D, (double) l2 * 0.25D + d5).color(1.0F, 1.0F, 1.0F, f4).lightmap(k3, l3)
-									.endVertex();
-							worldrenderer.pos((double) gridX - rainX + 0.5D, (double) l2, (double) gridZ - rainY + 0.5D)
-									.tex(0.0D, (double) l2 * 0.25D + d5).color(1.0F, 1.0F, 1.0F, f4).lightmap(k3, l3)
-									.endVertex();
-						} else {
-							if (j1 != 1) {
-								if (j1 >= 0) {
-									tess.draw();
-								}
-
-								// If cold enough the dust texture will be
-								// snow that blows sideways
-								ResourceLocation texture = locationSnowPng;
-								if (hasDust && heightTemp >= 0.15F)
-									texture = locationDustPng;
-
-								j1 = 1;
-								renderer.mc.getTextureManager().bindTexture(texture);
-								// GL_QUADS == 7
-								worldrenderer.begin(GL11.GL_QUADS,
-										DefaultVertexFormats.PARTICLE_POSITION_TEX_COLOR_LMAP);
-							}
-
-							Color color = new Color(1.0F, 1.0F, 1.0F);
-							if (world.provider.getDimensionId() == -1) {
-								final Color c = BiomeRegistry.getDustColor(biome);
-								if (color != null)
-									color.mix(c);
-							}
-
-							double d8 = (double) (((float) (renderer.rendererUpdateCount & 511) + partialTicks)
-									/ 512.0F);
-							// The 0.2F factor was originally 0.01F. It
-							// affects the horizontal
-							// movement of particles, which works well for
-							// dust.
-							final float factor = hasDust ? 0.2F : 0.01F;
-							double d9 = random.nextDouble()
-									+ (double) f1 * factor * (double) ((float) random.nextGaussian());
-							double d10 = random.nextDouble() + (double) (f1 * (float) random.nextGaussian()) * 0.001D;
-							double d11 = (double) ((float) gridX + 0.5F) - entity.posX;
-							double d12 = (double) ((float) gridZ + 0.5F) - entity.posZ;
-							float f6 = MathHelper.sqrt_double(d11 * d11 + d12 * d12) / (float) range;
-							float f5 = ((1.0F - f6 * f6) * 0.3F + 0.5F) * alphaRatio;
-							mutable.set(gridX, i3, gridZ);
-							int i4 = (world.getCombinedLight(mutable, 0) * 3 + 15728880) / 4;
-							int j4 = i4 >> 16 & 65535;
-							int k4 = i4 & 65535;
-							worldrenderer.pos((double) gridX - rainX + 0.5D, (double) k2, (double) gridZ - rainY + 0.5D)
-									.tex(0.0D + d9, (double) k2 * 0.25D + d8 + d10)
-									.color(color.red, color.green, color.blue, f5).lightmap(j4, k4).endVertex();
-							worldrenderer.pos((double) gridX + rainX + 0.5D, (double) k2, (double) gridZ + rainY + 0.5D)
-									.tex(1.0D + d9, (double) k2 * 0.25D + d8 + d10)
-									.color(color.red, color.green, color.blue, f5).lightmap(j4, k4).endVertex();
-							worldrenderer.pos((double) gridX + rainX + 0.5D, (double) l2, (double) gridZ + rainY + 0.5D)
-									.tex(1.0D + d9, (double) l2 * 0.25D + d8 + d10)
-									.color(color.red, color.green, color.blue, f5).lightmap(j4, k4).endVertex();
-							worldrenderer.pos((double) gridX - rainX + 0.5D, (double) l2, (double) gridZ - rainY + 0.5D)
-									.tex(0.0D + d9, (double) l2 * 0.25D + d8 + d10)
-									.color(color.red, color.green, color.blue, f5).lightmap(j4, k4).endVertex();
-						}
-					}
-				}
-			}
-		}
-
-		if (j1 >= 0) {
+		GlStateManager.pushMatrix();
+		GlStateManager.translate(this.geometry.getOriginX() - spawnX, this.geometry.getOriginY() - spawnY,
+				this.geometry.getOriginZ() - spawnZ);
+
+		for (int batch = 0; batch < StormGeometry.BATCH_COUNT; batch++) {
+			if (this.geometry.getQuadCount(batch) == 0)
+				continue;
+			renderer.mc.getTextureManager().bindTexture(getTexture(batch));
+			worldrenderer.begin(GL11.GL_QUADS, DefaultVertexFormats.PARTICLE_POSITION_TEX_COLOR_LMAP);
+			worldrenderer.addVertexData(this.geometry.getVertexData(batch));
 			tess.draw();
 		}
 
-		worldrenderer.setTranslation(0.0D, 0.0D, 0.0D);
+		GlStateManager.popMatrix();
 		GlStateManager.enableCull();
 		GlStateManager.disableBlend();
 		GlStateManager.alphaFunc(516, 0.1F);
@@ -26,10 +26,11 @@ package org.blockartistry.mod.DynSurround.client.storm;
 
 import org.apache.commons.lang3.StringUtils;
 import org.blockartistry.mod.DynSurround.ModOptions;
-import org.blockartistry.mod.DynSurround.client.WeatherUtils;
 import org.blockartistry.mod.DynSurround.client.EnvironStateHandler.EnvironState;
+import org.blockartistry.mod.DynSurround.client.QualityGovernor;
+import org.blockartistry.mod.DynSurround.client.fx.particle.ParticleBudget;
+import org.blockartistry.mod.DynSurround.client.fx.particle.ParticleBudget.Category;
 import org.blockartistry.mod.DynSurround.client.fx.particle.ParticleFactory;
-import org.blockartistry.mod.DynSurround.data.BiomeRegistry;
 import org.blockartistry.mod.DynSurround.data.DimensionRegistry;
 import org.blockartistry.mod.DynSurround.util.DiurnalUtils;
 import org.blockartistry.mod.DynSurround.util.XorShiftRandom;
@@ -38,15 +39,12 @@ import gnu.trove.map.hash.TIntObjectHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.multiplayer.WorldClient;
-import net.minecraft.client.particle.EntityFX;
 import net.minecraft.client.particle.IParticleFactory;
 import net.minecraft.client.renderer.EntityRenderer;
 import net.minecraft.entity.Entity;
 import net.minecraft.init.Blocks;
-import net.minecraft.util.BlockPos;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
-import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.gen.NoiseGeneratorSimplex;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.fml.relauncher.Side;
@@ -87,8 +85,7 @@ public class StormSplashRenderer {
 						0.0F, 1.0F);
 	}
 
-	protected EntityFX getBlockParticleFX(final Block block, final boolean dust, final World world, final double x,
-			final double y, final double z) {
+	protected IParticleFactory getBlockParticleFactory(final Block block, final boolean dust, final World world) {
 		IParticleFactory factory = null;
 
 		if (dust) {
@@ -103,7 +100,7 @@ public class StormSplashRenderer {
 			factory = ParticleFactory.rain;
 		}
 
-		return factory != null ? factory.getEntityFX(0, world, x, y, z, 0, 0, 0) : null;
+		return factory;
 	}
 
 	protected String getBlockSoundFX(final Block block, final boolean hasDust, final World world) {
@@ -114,8 +111,16 @@ public class StormSplashRenderer {
 		return StormProperties.getIntensity().getStormSound();
 	}
 
-	protected BlockPos getPrecipitationHeight(final World world, final int range, final BlockPos pos) {
-		return world.getPrecipitationHeight(pos);
+	protected int getPrecipitationHeight(final World world, final int range, final int slot, final int x,
+			final int z) {
+		return WeatherColumnCache.getPrecipitationHeight(slot);
+	}
+
+	/*
+	 * The block below the given precipitation height.
+	 */
+	protected Block getSurfaceBlock(final World world, final int slot, final int x, final int y, final int z) {
+		return WeatherColumnCache.getSurfaceBlock(slot);
 	}
 
 	protected void playSplashSound(final EntityRenderer renderer, final WorldClient world, final Entity player,
@@ -124,9 +129,9 @@ public class StormSplashRenderer {
 		final int theY = MathHelper.floor_double(y);
 		final int theZ = MathHelper.floor_double(z);
 
-		final BlockPos coord = new BlockPos(theX, theY, theZ);
-		final boolean hasDust = WeatherUtils.biomeHasDust(world.getBiomeGenForCoords(coord));
-		final Block block = world.getBlockState(coord.down()).getBlock();
+		final int slot = WeatherColumnCache.get(world, theX, theZ);
+		final boolean hasDust = WeatherColumnCache.hasDust(slot);
+		final Block block = getSurfaceBlock(world, slot, theX, theY, theZ);
 		final String sound = getBlockSoundFX(block, hasDust, world);
 		if (!StringUtils.isEmpty(sound)) {
 			final float volume = calculateRainSoundVolume(world);
@@ -134,8 +139,8 @@ public class StormSplashRenderer {
 			final int playerX = MathHelper.floor_double(player.posX);
 			final int playerY = MathHelper.floor_double(player.posY);
 			final int playerZ = MathHelper.floor_double(player.posZ);
-			if (y > player.posY + 1.0D
-					&& world.getPrecipitationHeight(new BlockPos(playerX, 0, playerZ)).getY() > playerY)
+			if (y > player.posY + 1.0D && WeatherColumnCache
+					.getPrecipitationHeight(WeatherColumnCache.get(world, playerX, playerZ)) > playerY)
 				pitch = 0.5F;
 			renderer.mc.theWorld.playSound(x, y, z, sound, volume, pitch, false);
 		}
@@ -166,31 +171,31 @@ public class StormSplashRenderer {
 		double spawnZ = 0.0D;
 		int particlesSpawned = 0;
 
-		int particleCount = (int) (ModOptions.particleCountBase * rainStrengthFactor * rainStrengthFactor);
+		final int range = QualityGovernor.scale(RANGE, 4);
+		int particleCount = (int) (ModOptions.particleCountBase * QualityGovernor.getScale() * rainStrengthFactor
+				* rainStrengthFactor);
 
 		if (theThis.mc.gameSettings.particleSetting == 1)
 			particleCount >>= 1;
 
-		BlockPos.MutableBlockPos posXZ = new BlockPos.MutableBlockPos();
 		for (int j1 = 0; j1 < particleCount; ++j1) {
-			final int locX = playerX + RANDOM.nextInt(RANGE) - RANDOM.nextInt(RANGE);
-			final int locZ = playerZ + RANDOM.nextInt(RANGE) - RANDOM.nextInt(RANGE);
-			posXZ.set(locX, 0, locZ);
-			final BlockPos precipHeight = getPrecipitationHeight(worldclient, RANGE / 2, posXZ);
-			final BiomeGenBase biome = worldclient.getBiomeGenForCoords(posXZ);
-			final boolean hasDust = WeatherUtils.biomeHasDust(biome);
+			final int locX = playerX + RANDOM.nextInt(range) - RANDOM.nextInt(range);
+			final int locZ = playerZ + RANDOM.nextInt(range) - RANDOM.nextInt(range);
+			final int slot = WeatherColumnCache.get(worldclient, locX, locZ);
+			final int precipHeight = getPrecipitationHeight(worldclient, range / 2, slot, locX, locZ);
+			final boolean hasDust = WeatherColumnCache.hasDust(slot);
 
-			if (precipHeight.getY() <= playerY + RANGE && precipHeight.getY() >= playerY - RANGE && (hasDust
-					|| (BiomeRegistry.hasPrecipitation(biome) && biome.getFloatTemperature(precipHeight) >= 0.15F))) {
+			if (precipHeight <= playerY + range && precipHeight >= playerY - range && (hasDust
+					|| (WeatherColumnCache.hasPrecipitation(slot) && !WeatherColumnCache.isCold(slot)))) {
 
-				final Block block = worldclient.getBlockState(precipHeight.down()).getBlock();
+				final Block block = getSurfaceBlock(worldclient, slot, locX, precipHeight, locZ);
 				final double posX = locX + RANDOM.nextFloat();
-				final double posY = precipHeight.getY() + 0.1F - block.getBlockBoundsMinY();
+				final double posY = precipHeight + 0.1F - block.getBlockBoundsMinY();
 				final double posZ = locZ + RANDOM.nextFloat();
 
-				final EntityFX particle = getBlockParticleFX(block, hasDust, worldclient, posX, posY, posZ);
-				if (particle != null)
-					theThis.mc.effectRenderer.addEffect(particle);
+				final IParticleFactory factory = getBlockParticleFactory(block, hasDust, worldclient);
+				if (factory != null && ParticleBudget.request(Category.SPLASH))
+					theThis.mc.effectRenderer.addEffect(factory.getEntityFX(0, worldclient, posX, posY, posZ, 0, 0, 0));
 
 				if (RANDOM.nextInt(++particlesSpawned) == 0) {
 					spawnX = posX;
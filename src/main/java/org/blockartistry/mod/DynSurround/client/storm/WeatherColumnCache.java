@@ -0,0 +1,257 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.client.storm;
+
+import org.blockartistry.mod.DynSurround.ModOptions;
+import org.blockartistry.mod.DynSurround.client.WorldAccessAdapter;
+import org.blockartistry.mod.DynSurround.data.BiomeRegistry;
+import org.blockartistry.mod.DynSurround.event.RegistryReloadEvent;
+
+import net.minecraft.block.Block;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/*
+ * Per column weather information for the area around the player. Columns are
+ * held in a 32x32 ring indexed by world coordinate so the cache follows the
+ * player without being rebuilt. A column is refetched from the world the first
+ * time it is asked for after a block or light change in it, or after its chunk
+ * is (re)loaded.
+ *
+ * Callers look up a slot with get() and then read the fields they need for
+ * that slot.
+ */
+@SideOnly(Side.CLIENT)
+public final class WeatherColumnCache {
+
+	private static final int BITS = 5;
+	private static final int SIZE = 1 << BITS;
+	private static final int MASK = SIZE - 1;
+	private static final int AREA = SIZE * SIZE;
+
+	private static final float SNOW_TEMPERATURE = 0.15F;
+
+	private static final int[] columnX = new int[AREA];
+	private static final int[] columnZ = new int[AREA];
+	private static final boolean[] valid = new boolean[AREA];
+
+	private static final BiomeGenBase[] biomes = new BiomeGenBase[AREA];
+	private static final int[] precipHeight = new int[AREA];
+	private static final Block[] surface = new Block[AREA];
+	private static final float[] temperature = new float[AREA];
+	private static final int[] light = new int[AREA];
+	private static final boolean[] dustBiome = new boolean[AREA];
+	private static final boolean[] precipBiome = new boolean[AREA];
+
+	private static final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+	private static int version;
+
+	private WeatherColumnCache() {
+	}
+
+	public static void initialize() {
+		MinecraftForge.EVENT_BUS.register(new WeatherColumnCache());
+	}
+
+	private static int slot(final int x, final int z) {
+		return (x & MASK) << BITS | (z & MASK);
+	}
+
+	/*
+	 * Returns the slot holding the column, filling it from the world if needed.
+	 */
+	public static int get(final World world, final int x, final int z) {
+		final int idx = slot(x, z);
+		if (!valid[idx] || columnX[idx] != x || columnZ[idx] != z)
+			fill(world, idx, x, z);
+		return idx;
+	}
+
+	private static void fill(final World world, final int idx, final int x, final int z) {
+		pos.set(x, 0, z);
+		final BiomeGenBase biome = world.getBiomeGenForCoords(pos);
+		final int y = world.getPrecipitationHeight(pos).getY();
+
+		pos.set(x, y, z);
+		final float temp = world.getWorldChunkManager().getTemperatureAtHeight(biome.getFloatTemperature(pos), y);
+		light[idx] = world.getCombinedLight(pos, 0);
+		pos.set(x, y - 1, z);
+		surface[idx] = world.getBlockState(pos).getBlock();
+
+		biomes[idx] = biome;
+		precipHeight[idx] = y;
+		temperature[idx] = temp;
+		dustBiome[idx] = BiomeRegistry.hasDust(biome);
+		precipBiome[idx] = BiomeRegistry.hasPrecipitation(biome);
+		columnX[idx] = x;
+		columnZ[idx] = z;
+		valid[idx] = true;
+	}
+
+	/*
+	 * Changes whenever a cached column is dropped so consumers holding derived
+	 * data know to refresh.
+	 */
+	public static int getVersion() {
+		return version;
+	}
+
+	public static BiomeGenBase getBiome(final int slot) {
+		return biomes[slot];
+	}
+
+	public static int getPrecipitationHeight(final int slot) {
+		return precipHeight[slot];
+	}
+
+	/*
+	 * Block the precipitation lands on.
+	 */
+	public static Block getSurfaceBlock(final int slot) {
+		return surface[slot];
+	}
+
+	public static float getTemperature(final int slot) {
+		return temperature[slot];
+	}
+
+	/*
+	 * Precipitation falling in the column is snow rather than rain.
+	 */
+	public static boolean isCold(final int slot) {
+		return temperature[slot] < SNOW_TEMPERATURE;
+	}
+
+	/*
+	 * Combined sky/block light at the precipitation height.
+	 */
+	public static int getCombinedLight(final int slot) {
+		return light[slot];
+	}
+
+	/*
+	 * Same as WeatherUtils.biomeHasDust() for the column's biome. The option
+	 * checks are made on each call since they can change at any time.
+	 */
+	public static boolean hasDust(final int slot) {
+		return dustBiome[slot] && ModOptions.allowDesertFog && !StormProperties.doVanilla();
+	}
+
+	public static boolean hasPrecipitation(final int slot) {
+		return precipBiome[slot];
+	}
+
+	public static void invalidate() {
+		for (int i = 0; i < AREA; i++)
+			valid[i] = false;
+		version++;
+	}
+
+	private static void invalidate(final int x, final int z) {
+		final int idx = slot(x, z);
+		if (valid[idx] && columnX[idx] == x && columnZ[idx] == z) {
+			valid[idx] = false;
+			version++;
+		}
+	}
+
+	private static void invalidate(final int x1, final int z1, final int x2, final int z2) {
+		if (x2 - x1 >= SIZE || z2 - z1 >= SIZE) {
+			for (int i = 0; i < AREA; i++)
+				if (valid[i] && columnX[i] >= x1 && columnX[i] <= x2 && columnZ[i] >= z1 && columnZ[i] <= z2) {
+					valid[i] = false;
+					version++;
+				}
+		} else {
+			for (int x = x1; x <= x2; x++)
+				for (int z = z1; z <= z2; z++)
+					invalidate(x, z);
+		}
+	}
+
+	private static void invalidate(final Chunk chunk) {
+		final int x = chunk.xPosition << 4;
+		final int z = chunk.zPosition << 4;
+		invalidate(x, z, x + 15, z + 15);
+	}
+
+	@SubscribeEvent
+	public void onWorldLoad(final WorldEvent.Load event) {
+		if (!event.world.isRemote)
+			return;
+		invalidate();
+		event.world.addWorldAccess(new BlockListener());
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(final WorldEvent.Unload event) {
+		if (event.world.isRemote)
+			invalidate();
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(final ChunkEvent.Load event) {
+		if (event.world.isRemote)
+			invalidate(event.getChunk());
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(final ChunkEvent.Unload event) {
+		if (event.world.isRemote)
+			invalidate(event.getChunk());
+	}
+
+	@SubscribeEvent
+	public void registryReload(final RegistryReloadEvent.Biome event) {
+		invalidate();
+	}
+
+	private static final class BlockListener extends WorldAccessAdapter {
+
+		@Override
+		public void markBlockForUpdate(final BlockPos pos) {
+			invalidate(pos.getX(), pos.getZ());
+		}
+
+		@Override
+		public void markBlockRangeForRenderUpdate(final int x1, final int y1, final int z1, final int x2,
+				final int y2, final int z2) {
+			invalidate(x1, z1, x2, z2);
+		}
+
+		@Override
+		public void notifyLightSet(final BlockPos pos) {
+			invalidate(pos.getX(), pos.getZ());
+		}
+	}
+}
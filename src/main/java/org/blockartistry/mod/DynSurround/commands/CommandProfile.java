@@ -0,0 +1,91 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.commands;
+
+import java.util.List;
+
+import org.blockartistry.mod.DynSurround.ModLog;
+import org.blockartistry.mod.DynSurround.client.ClientEffectHandler;
+import org.blockartistry.mod.DynSurround.util.TickProfile;
+
+import com.google.common.collect.ImmutableList;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.util.ChatComponentText;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Client side command that dumps the effect handler tick profiles to chat and
+ * the log.
+ */
+@SideOnly(Side.CLIENT)
+public final class CommandProfile extends CommandBase {
+
+	private static final List<String> ALIAS = ImmutableList.<String> builder().add("dsp").build();
+
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 0;
+	}
+
+	@Override
+	public boolean canCommandSenderUseCommand(final ICommandSender sender) {
+		return true;
+	}
+
+	@Override
+	public String getCommandName() {
+		return "dsprofile";
+	}
+
+	@Override
+	public List<String> getCommandAliases() {
+		return ALIAS;
+	}
+
+	@Override
+	public String getCommandUsage(final ICommandSender sender) {
+		return "/dsprofile [reset]";
+	}
+
+	@Override
+	public void processCommand(final ICommandSender sender, final String[] parms) {
+		if (parms.length == 1 && "reset".compareToIgnoreCase(parms[0]) == 0) {
+			ClientEffectHandler.resetProfiles();
+			sender.addChatMessage(new ChatComponentText("Profiles reset"));
+			return;
+		}
+
+		ModLog.info("*** EFFECT HANDLER PROFILE ***");
+		if (!TickProfile.canTrackAllocations())
+			ModLog.info("Allocation tracking is not supported by this JVM");
+		for (final TickProfile.Snapshot snapshot : ClientEffectHandler.getProfiles()) {
+			final String line = snapshot.toString();
+			ModLog.info("%s (mean %d ns, %d samples)", line, snapshot.mean, snapshot.samples);
+			sender.addChatMessage(new ChatComponentText(line));
+		}
+	}
+}
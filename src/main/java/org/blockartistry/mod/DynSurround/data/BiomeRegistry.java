@@ -84,6 +84,7 @@ public final class BiomeRegistry {
 
 		public int spotSoundChance;
 		public List<SoundEffect> spotSounds;
+		private SoundSelector spotSoundSelector;
 
 		public Entry(final BiomeGenBase biome) {
 			this.biome = biome;
@@ -93,19 +94,22 @@ public final class BiomeRegistry {
 			this.spotSoundChance = 1200;
 		}
 
-		public SoundEffect findSoundMatch(final String conditions) {
+		public SoundEffect findSoundMatch(final long conditions) {
 			for (final SoundEffect sound : this.sounds)
 				if (sound.matches(conditions))
 					return sound;
 			return null;
 		}
 
-		public List<SoundEffect> findSoundMatches(final String conditions) {
-			final List<SoundEffect> results = new ArrayList<SoundEffect>();
-			for (final SoundEffect sound : this.sounds)
-				if (sound.matches(conditions))
-					results.add(sound);
-			return results;
+		public SoundSelector getSpotSoundSelector() {
+			// The sound list is fixed once the config has been processed
+			if (this.spotSoundSelector == null)
+				this.spotSoundSelector = new SoundSelector(this.spotSounds);
+			return this.spotSoundSelector;
+		}
+
+		public List<SoundEffect> findSoundMatches(final long conditions) {
+			return SoundSelector.findMatches(this.sounds, conditions);
 		}
 
 		@Override
@@ -194,7 +198,9 @@ public final class BiomeRegistry {
 
 		// Free memory because we no longer need
 		biomeAliases.clear();
-		
+
+		SoundSelector.invalidate();
+
 		MinecraftForge.EVENT_BUS.post(new RegistryReloadEvent.Biome());
 	}
 
@@ -241,38 +247,20 @@ public final class BiomeRegistry {
 		return get(biome).fogDensity;
 	}
 
-	public static SoundEffect getSound(final BiomeGenBase biome, final String conditions) {
+	public static SoundEffect getSound(final BiomeGenBase biome, final long conditions) {
 		return get(biome).findSoundMatch(conditions);
 	}
 
-	public static List<SoundEffect> getSounds(final BiomeGenBase biome, final String conditions) {
+	public static List<SoundEffect> getSounds(final BiomeGenBase biome, final long conditions) {
 		return get(biome).findSoundMatches(conditions);
 	}
 
-	public static SoundEffect getSpotSound(final BiomeGenBase biome, final String conditions, final Random random) {
+	public static SoundEffect getSpotSound(final BiomeGenBase biome, final long conditions, final Random random) {
 		final Entry e = get(biome);
 		if (e == null || e.spotSounds.isEmpty() || random.nextInt(e.spotSoundChance) != 0)
 			return null;
 
-		int totalWeight = 0;
-		final List<SoundEffect> candidates = new ArrayList<SoundEffect>();
-		for (final SoundEffect s : e.spotSounds)
-			if (s.matches(conditions)) {
-				candidates.add(s);
-				totalWeight += s.weight;
-			}
-		if (totalWeight <= 0)
-			return null;
-
-		if (candidates.size() == 1)
-			return candidates.get(0);
-
-		int targetWeight = random.nextInt(totalWeight);
-		int i = 0;
-		for (i = candidates.size(); (targetWeight -= candidates.get(i - 1).weight) >= 0; i--)
-			;
-
-		return candidates.get(i - 1);
+		return e.getSpotSoundSelector().select(conditions, random);
 	}
 
 	private static void processConfig() {
@@ -43,19 +43,34 @@ import org.blockartistry.mod.DynSurround.data.config.BlockConfig;
 import org.blockartistry.mod.DynSurround.data.config.BlockConfig.Effect;
 
 import org.blockartistry.mod.DynSurround.data.config.SoundConfig;
+import org.blockartistry.mod.DynSurround.event.RegistryReloadEvent;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.Loader;
 import net.minecraftforge.fml.common.ModContainer;
 import net.minecraftforge.fml.common.registry.GameData;
 
 public final class BlockRegistry {
 
-	private static final Map<Block, Entry> registry = new IdentityHashMap<Block, Entry>();
+	private static final Map<Block, EntryBuilder> registry = new IdentityHashMap<Block, EntryBuilder>();
 
-	private static final class Entry {
+	// Compiled entries for every block that has something configured
+	private static final List<Entry> compiled = new ArrayList<Entry>();
+
+	// The compiled entries indexed by block ID. Blocks that have nothing
+	// configured have a null slot so they can be skipped with a single
+	// array load. FML can remap block IDs when a world is loaded so the
+	// table is rebuilt from the compiled entries whenever that happens,
+	// possibly on the integrated server thread.
+	private static volatile Entry[] entries = new Entry[0];
+
+	private static final SoundEffect[] NO_SOUNDS = {};
+	private static final BlockEffect[] NO_EFFECTS = {};
+
+	static final class EntryBuilder {
 		public final Block block;
 		public int chance = 100;
 		public int stepChance = 100;
@@ -63,16 +78,66 @@ public final class BlockRegistry {
 		public final List<SoundEffect> stepSounds = new ArrayList<SoundEffect>();
 		public final List<BlockEffect> effects = new ArrayList<BlockEffect>();
 
-		public Entry(final Block block) {
+		public EntryBuilder(final Block block) {
 			this.block = block;
 		}
 
+		public boolean isEmpty() {
+			return this.sounds.isEmpty() && this.stepSounds.isEmpty() && this.effects.isEmpty();
+		}
+
+		public Entry build() {
+			return new Entry(this);
+		}
+	}
+
+	/*
+	 * Immutable per block record of everything the registry knows about a
+	 * block.
+	 */
+	public static final class Entry {
+		public final Block block;
+		public final int chance;
+		public final int stepChance;
+		public final SoundEffect[] sounds;
+		public final SoundEffect[] stepSounds;
+		public final BlockEffect[] effects;
+
+		private final SoundSelector soundSelector;
+		private final SoundSelector stepSoundSelector;
+
+		Entry(final EntryBuilder builder) {
+			this.block = builder.block;
+			this.chance = builder.chance;
+			this.stepChance = builder.stepChance;
+			this.sounds = builder.sounds.isEmpty() ? NO_SOUNDS
+					: builder.sounds.toArray(new SoundEffect[builder.sounds.size()]);
+			this.stepSounds = builder.stepSounds.isEmpty() ? NO_SOUNDS
+					: builder.stepSounds.toArray(new SoundEffect[builder.stepSounds.size()]);
+			this.effects = builder.effects.isEmpty() ? NO_EFFECTS
+					: builder.effects.toArray(new BlockEffect[builder.effects.size()]);
+			this.soundSelector = new SoundSelector(this.sounds);
+			this.stepSoundSelector = new SoundSelector(this.stepSounds);
+		}
+
+		public SoundEffect getSound(final Random random, final long conditions) {
+			if (this.sounds.length == 0 || random.nextInt(this.chance) != 0)
+				return null;
+			return this.soundSelector.select(conditions, random);
+		}
+
+		public SoundEffect getStepSound(final Random random, final long conditions) {
+			if (this.stepSounds.length == 0 || random.nextInt(this.stepChance) != 0)
+				return null;
+			return this.stepSoundSelector.select(conditions, random);
+		}
+
 		@Override
 		public String toString() {
 			final StringBuilder builder = new StringBuilder();
 			builder.append(String.format("Block [%s]:", this.block.getUnlocalizedName()));
 
-			if (!this.sounds.isEmpty()) {
+			if (this.sounds.length > 0) {
 				builder.append(" chance:").append(this.chance);
 				builder.append("; sounds [");
 				for (final SoundEffect sound : this.sounds)
@@ -80,7 +145,7 @@ public final class BlockRegistry {
 				builder.append(']');
 			}
 
-			if (!this.stepSounds.isEmpty()) {
+			if (this.stepSounds.length > 0) {
 				builder.append(" chance:").append(this.stepChance);
 				builder.append("; step sounds [");
 				for (final SoundEffect sound : this.stepSounds)
@@ -88,7 +153,7 @@ public final class BlockRegistry {
 				builder.append(']');
 			}
 
-			if (!this.effects.isEmpty()) {
+			if (this.effects.length > 0) {
 				builder.append("; effects [");
 				for (final BlockEffect effect : this.effects)
 					builder.append(effect.toString()).append(',');
@@ -104,53 +169,66 @@ public final class BlockRegistry {
 		registry.clear();
 		processConfig();
 
+		compiled.clear();
+		for (final EntryBuilder builder : registry.values())
+			if (!builder.isEmpty())
+				compiled.add(builder.build());
+
+		// Builders are no longer needed
+		registry.clear();
+		SoundSelector.invalidate();
+		remap();
+
 		if (ModOptions.enableDebugLogging) {
 			ModLog.info("*** BLOCK REGISTRY ***");
-			for (final Entry entry : registry.values())
+			for (final Entry entry : compiled)
 				ModLog.info(entry.toString());
 		}
-	}
 
-	public static List<BlockEffect> getEffects(final Block block) {
-		final Entry entry = registry.get(block);
-		return entry != null ? entry.effects : null;
+		MinecraftForge.EVENT_BUS.post(new RegistryReloadEvent.Block());
 	}
 
-	private static SoundEffect getRandomSound(final List<SoundEffect> list, final Random random,
-			final String conditions) {
-		int totalWeight = 0;
-		final List<SoundEffect> candidates = new ArrayList<SoundEffect>();
-		for (final SoundEffect s : list)
-			if (s.matches(conditions)) {
-				candidates.add(s);
-				totalWeight += s.weight;
-			}
-		if (totalWeight <= 0)
-			return null;
-
-		if (candidates.size() == 1)
-			return candidates.get(0);
+	/*
+	 * Rebuilds the ID table from the compiled entries. Called after the
+	 * registry is loaded and again each time FML remaps block IDs.
+	 */
+	public static void remap() {
+		int maxId = -1;
+		for (final Entry entry : compiled)
+			maxId = Math.max(maxId, Block.getIdFromBlock(entry.block));
+
+		final Entry[] table = new Entry[maxId + 1];
+		for (final Entry entry : compiled) {
+			final int id = Block.getIdFromBlock(entry.block);
+			if (id >= 0)
+				table[id] = entry;
+		}
+		entries = table;
+	}
 
-		int targetWeight = random.nextInt(totalWeight);
-		int i = 0;
-		for (i = candidates.size(); (targetWeight -= candidates.get(i - 1).weight) >= 0; i--)
-			;
+	/*
+	 * Returns the compiled entry for the block, or null if the block has no
+	 * effects or sounds configured.
+	 */
+	public static Entry get(final Block block) {
+		final int id = Block.getIdFromBlock(block);
+		final Entry[] table = entries;
+		return id >= 0 && id < table.length ? table[id] : null;
+	}
 
-		return candidates.get(i - 1);
+	public static BlockEffect[] getEffects(final Block block) {
+		final Entry entry = get(block);
+		return entry != null ? entry.effects : null;
 	}
 
-	public static SoundEffect getSound(final Block block, final Random random, final String conditions) {
-		final Entry entry = registry.get(block);
-		if (entry == null || entry.sounds.isEmpty() || random.nextInt(entry.chance) != 0)
-			return null;
-		return getRandomSound(entry.sounds, random, conditions);
+	public static SoundEffect getSound(final Block block, final Random random, final long conditions) {
+		final Entry entry = get(block);
+		return entry != null ? entry.getSound(random, conditions) : null;
 	}
 
-	public static SoundEffect getStepSound(final Block block, final Random random, final String conditions) {
-		final Entry entry = registry.get(block);
-		if (entry == null || entry.stepSounds.isEmpty() || random.nextInt(entry.stepChance) != 0)
-			return null;
-		return getRandomSound(entry.stepSounds, random, conditions);
+	public static SoundEffect getStepSound(final Block block, final Random random, final long conditions) {
+		final Entry entry = get(block);
+		return entry != null ? entry.getStepSound(random, conditions) : null;
 	}
 
 	private static void processConfig() {
@@ -203,9 +281,9 @@ public final class BlockRegistry {
 					continue;
 				}
 
-				Entry blockData = registry.get(block);
+				EntryBuilder blockData = registry.get(block);
 				if (blockData == null) {
-					blockData = new Entry(block);
+					blockData = new EntryBuilder(block);
 					registry.put(block, blockData);
 				}
 
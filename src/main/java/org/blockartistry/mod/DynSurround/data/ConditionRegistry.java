@@ -0,0 +1,314 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.data;
+
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gnu.trove.map.hash.TObjectLongHashMap;
+
+/*
+ * Vocabulary of condition tokens ("day", "raining", "tcwarm", dimension and
+ * season names, etc.) mapped onto bits of a long. Condition regexes from the
+ * config files are compiled into mask/anti-mask predicates against that
+ * vocabulary so the hot paths can match with a couple of AND operations
+ * rather than running a Pattern against the condition string.
+ *
+ * Recognized pattern shapes (with an optional leading (?i)):
+ *
+ *   .*#token#.*             token present
+ *   .*text.*                some token contains text
+ *   .*#a#.*#b#.*            all tokens present
+ *   (?!.*#a#.*|.*b.*)(...)  none of the alternatives present
+ *
+ * Anything else, or a case sensitive pattern that references tokens, falls
+ * back to a regex evaluated against the published condition string. Order of
+ * tokens within a compiled sequence is not significant.
+ */
+public final class ConditionRegistry {
+
+	public static final char SEPARATOR = '#';
+
+	// Top bit is left alone so masks stay positive
+	private static final int MAX_BITS = 63;
+	private static final String CASE_INSENSITIVE = "(?i)";
+	private static final String NEGATIVE_LOOKAHEAD = "(?!";
+	private static final String WILDCARD = ".*";
+	private static final String MATCH_ALL = "(.*)";
+	private static final Pattern WILDCARD_SPLIT = Pattern.compile(Pattern.quote(WILDCARD));
+	private static final Pattern TOKEN = Pattern.compile("[\\w ]+");
+
+	// Bits assigned to exact tokens and to substring probes
+	private static final TObjectIntHashMap<String> exactBits = new TObjectIntHashMap<String>(16, 0.5F, -1);
+	private static final TObjectIntHashMap<String> substringBits = new TObjectIntHashMap<String>(16, 0.5F, -1);
+	private static int nextBit = 0;
+
+	// Resolved mask for a raw token as it is produced by the environment
+	private static final TObjectLongHashMap<String> tokenMasks = new TObjectLongHashMap<String>(16, 0.5F, -1);
+
+	// Last published condition state. Regex fallbacks evaluate against it.
+	private static String currentConditions = "";
+	private static int generation = 0;
+
+	private ConditionRegistry() {
+
+	}
+
+	public static abstract class Predicate {
+		public abstract boolean matches(final long conditions);
+
+		/*
+		 * True if the result depends only on the condition mask.
+		 */
+		public boolean isCompiled() {
+			return true;
+		}
+	}
+
+	public static final Predicate ALWAYS = new Predicate() {
+		@Override
+		public boolean matches(final long conditions) {
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return "ALWAYS";
+		}
+	};
+
+	private static final class MaskPredicate extends Predicate {
+
+		private final long require;
+		private final long exclude;
+
+		public MaskPredicate(final long require, final long exclude) {
+			this.require = require;
+			this.exclude = exclude;
+		}
+
+		@Override
+		public boolean matches(final long conditions) {
+			return (conditions & this.require) == this.require && (conditions & this.exclude) == 0;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("MASK[+%x,-%x]", this.require, this.exclude);
+		}
+	}
+
+	private static final class RegexPredicate extends Predicate {
+
+		private final Pattern pattern;
+		private int generation = -1;
+		private boolean result;
+
+		public RegexPredicate(final Pattern pattern) {
+			this.pattern = pattern;
+		}
+
+		@Override
+		public boolean matches(final long conditions) {
+			if (this.generation != ConditionRegistry.generation) {
+				this.result = this.pattern.matcher(currentConditions).matches();
+				this.generation = ConditionRegistry.generation;
+			}
+			return this.result;
+		}
+
+		@Override
+		public boolean isCompiled() {
+			return false;
+		}
+
+		@Override
+		public String toString() {
+			return "REGEX[" + this.pattern.pattern() + "]";
+		}
+	}
+
+	/*
+	 * Accumulates the condition string and mask for a tick. The string format
+	 * is the same '#' separated form that the config regexes are written
+	 * against.
+	 */
+	public static final class Builder {
+
+		private final StringBuilder builder = new StringBuilder(128);
+		private long mask;
+
+		public Builder reset() {
+			this.builder.setLength(0);
+			this.mask = 0;
+			return this;
+		}
+
+		public Builder add(final String token) {
+			this.builder.append(SEPARATOR).append(token);
+			this.mask |= getTokenMask(token);
+			return this;
+		}
+
+		public Builder close() {
+			this.builder.append(SEPARATOR);
+			return this;
+		}
+
+		public long getMask() {
+			return this.mask;
+		}
+
+		public String getConditions() {
+			return this.builder.toString();
+		}
+
+		public boolean contentEquals(final String conditions) {
+			return conditions.contentEquals(this.builder);
+		}
+	}
+
+	/*
+	 * Publishes the condition state for the current tick. Regex fallback
+	 * predicates re-evaluate lazily against the new string.
+	 */
+	public static void publish(final String conditions) {
+		currentConditions = conditions;
+		generation++;
+	}
+
+	public static int getGeneration() {
+		return generation;
+	}
+
+	public static long getTokenMask(final String token) {
+		long mask = tokenMasks.get(token);
+		if (mask >= 0)
+			return mask;
+
+		final String key = token.toLowerCase();
+		mask = 0;
+		final int bit = exactBits.get(key);
+		if (bit >= 0)
+			mask |= 1L << bit;
+		for (final String probe : substringBits.keySet())
+			if (key.contains(probe))
+				mask |= 1L << substringBits.get(probe);
+		tokenMasks.put(token, mask);
+		return mask;
+	}
+
+	private static int allocate(final TObjectIntHashMap<String> bits, final String key) {
+		int bit = bits.get(key);
+		if (bit < 0 && nextBit < MAX_BITS) {
+			bit = nextBit++;
+			bits.put(key, bit);
+			// Vocabulary changed so resolved token masks are stale
+			tokenMasks.clear();
+		}
+		return bit;
+	}
+
+	/*
+	 * Returns the mask of all atoms in the sequence, 0 if the sequence is a
+	 * bare wildcard, or -1 if the sequence can't be compiled.
+	 */
+	private static long compileSequence(final String seq) {
+		final String[] parts = WILDCARD_SPLIT.split(seq, -1);
+		if (parts.length < 2 || !parts[0].isEmpty() || !parts[parts.length - 1].isEmpty())
+			return -1;
+
+		long mask = 0;
+		for (int i = 1; i < parts.length - 1; i++) {
+			String atom = parts[i];
+			final boolean exact = atom.length() > 2 && atom.charAt(0) == SEPARATOR
+					&& atom.charAt(atom.length() - 1) == SEPARATOR;
+			if (exact)
+				atom = atom.substring(1, atom.length() - 1);
+			if (!TOKEN.matcher(atom).matches())
+				return -1;
+			final String key = atom.toLowerCase();
+			final int bit = allocate(exact ? exactBits : substringBits, key);
+			if (bit < 0)
+				return -1;
+			mask |= 1L << bit;
+		}
+		return mask;
+	}
+
+	private static Predicate compileMask(final String regex) {
+		String expr = regex;
+		final boolean ignoreCase = expr.startsWith(CASE_INSENSITIVE);
+		if (ignoreCase)
+			expr = expr.substring(CASE_INSENSITIVE.length());
+
+		// Without (?i) token case matters, which the mask can't express
+		if (!ignoreCase)
+			return WILDCARD.equals(expr) || MATCH_ALL.equals(expr) ? ALWAYS : null;
+
+		long exclude = 0;
+		if (expr.startsWith(NEGATIVE_LOOKAHEAD)) {
+			final int end = expr.indexOf(')');
+			if (end < 0)
+				return null;
+			final String alternatives = expr.substring(NEGATIVE_LOOKAHEAD.length(), end);
+			if (alternatives.indexOf('(') >= 0)
+				return null;
+			for (final String alt : StringUtils.splitPreserveAllTokens(alternatives, '|')) {
+				final long mask = compileSequence(alt);
+				// Only single atom alternatives map onto an anti-mask
+				if (Long.bitCount(mask) != 1)
+					return null;
+				exclude |= mask;
+			}
+			expr = expr.substring(end + 1);
+		}
+
+		if (expr.length() >= 2 && expr.charAt(0) == '(' && expr.charAt(expr.length() - 1) == ')')
+			expr = expr.substring(1, expr.length() - 1);
+		if (expr.indexOf('(') >= 0 || expr.indexOf(')') >= 0)
+			return null;
+
+		final long require = compileSequence(expr);
+		if (require < 0)
+			return null;
+
+		if (require == 0 && exclude == 0)
+			return ALWAYS;
+
+		return new MaskPredicate(require, exclude);
+	}
+
+	/*
+	 * Compiles a condition regex. Throws if the expression is not a valid
+	 * regex, same as Pattern.compile().
+	 */
+	public static Predicate compile(final String regex) {
+		final Pattern pattern = Pattern.compile(regex);
+		final Predicate result = compileMask(regex);
+		return result != null ? result : new RegexPredicate(pattern);
+	}
+}
@@ -23,8 +23,6 @@
 
 package org.blockartistry.mod.DynSurround.data;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
@@ -32,42 +30,35 @@ import org.blockartistry.mod.DynSurround.ModLog;
 import org.blockartistry.mod.DynSurround.ModOptions;
 import org.blockartistry.mod.DynSurround.event.SoundConfigEvent;
 
+import gnu.trove.impl.Constants;
 import gnu.trove.map.hash.TObjectFloatHashMap;
+import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.common.MinecraftForge;
 
 public final class SoundRegistry {
 
-	private static final List<Pattern> cullSoundNamePatterns = new ArrayList<Pattern>();
-	private static final List<Pattern> blockSoundNamePatterns = new ArrayList<Pattern>();
-	private static final TObjectFloatHashMap<String> volumeControl = new TObjectFloatHashMap<String>();
+	// Each list of sound name patterns is compiled into a single alternation
+	// so a name is checked in one pass. Null when the list is empty.
+	private static Pattern cullSoundNamePattern;
+	private static Pattern blockSoundNamePattern;
+
+	// Keyed by location so the volume hook can look up a sound without
+	// building its name. Sounds without an entry play at full scale.
+	private static final TObjectFloatHashMap<ResourceLocation> volumeControl = new TObjectFloatHashMap<ResourceLocation>(
+			Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, 1.0F);
 
 	public static void initialize() {
-		cullSoundNamePatterns.clear();
-		blockSoundNamePatterns.clear();
 		volumeControl.clear();
 
-		for (final String sound : ModOptions.culledSounds) {
-			try {
-				cullSoundNamePatterns.add(Pattern.compile(sound));
-			} catch (final Throwable ex) {
-				ModLog.warn("Unable to compile pattern for culled sound '%s'", sound);
-			}
-		}
-
-		for (final String sound : ModOptions.blockedSounds) {
-			try {
-				blockSoundNamePatterns.add(Pattern.compile(sound));
-			} catch (final Throwable ex) {
-				ModLog.warn("Unable to compile pattern for blocked sound '%s'", sound);
-			}
-		}
+		cullSoundNamePattern = compile(ModOptions.culledSounds, "culled");
+		blockSoundNamePattern = compile(ModOptions.blockedSounds, "blocked");
 
 		for (final String volume : ModOptions.soundVolumes) {
 			final String[] tokens = StringUtils.split(volume, "=");
 			if (tokens.length == 2) {
 				try {
 					final float vol = Integer.parseInt(tokens[1]) / 100.0F;
-					volumeControl.put(tokens[0], vol);
+					volumeControl.put(new ResourceLocation(tokens[0]), vol);
 				} catch (final Throwable t) {
 					ModLog.error("Unable to process sound volume entry: " + volume, t);
 				}
@@ -81,22 +72,37 @@ public final class SoundRegistry {
 
 	}
 
+	private static Pattern compile(final String[] patterns, final String kind) {
+		final StringBuilder builder = new StringBuilder();
+		for (final String sound : patterns) {
+			// Check each on its own so a bad entry doesn't spoil the rest
+			try {
+				Pattern.compile(sound);
+			} catch (final Throwable ex) {
+				ModLog.warn("Unable to compile pattern for %s sound '%s'", kind, sound);
+				continue;
+			}
+			if (builder.length() > 0)
+				builder.append('|');
+			builder.append("(?:").append(sound).append(')');
+		}
+		return builder.length() == 0 ? null : Pattern.compile(builder.toString());
+	}
+
 	public static boolean isSoundCulled(final String sound) {
-		for (final Pattern pattern : cullSoundNamePatterns)
-			if (pattern.matcher(sound).matches())
-				return true;
-		return false;
+		return cullSoundNamePattern != null && cullSoundNamePattern.matcher(sound).matches();
 	}
 
 	public static boolean isSoundBlocked(final String sound) {
-		for (final Pattern pattern : blockSoundNamePatterns)
-			if (pattern.matcher(sound).matches())
-				return true;
-		return false;
+		return blockSoundNamePattern != null && blockSoundNamePattern.matcher(sound).matches();
 	}
 
 	public static float getVolumeScale(final String soundName) {
-		return volumeControl.contains(soundName) ? volumeControl.get(soundName) : 1.0F;
+		return getVolumeScale(new ResourceLocation(soundName));
+	}
+
+	public static float getVolumeScale(final ResourceLocation sound) {
+		return volumeControl.get(sound);
 	}
 
 }
@@ -0,0 +1,133 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.blockartistry.mod.DynSurround.client.sound.SoundEffect;
+import org.blockartistry.mod.DynSurround.util.WeightTable;
+
+/*
+ * Weighted random selection over a fixed list of sounds. The candidates that
+ * match a given condition mask are compiled into a WeightTable on first use
+ * and cached so that later selections under the same conditions are O(1)
+ * and allocation free. The cache is small and evicts round robin; the
+ * conditions near a player don't vary much from tick to tick.
+ */
+public final class SoundSelector {
+
+	private static final int CACHE_SIZE = 8;
+
+	// Bumped when registries reload so every cached table goes stale
+	private static int version = 0;
+
+	private static final SoundEffect[] NO_SOUNDS = {};
+
+	private final SoundEffect[] sounds;
+	private final boolean compiled;
+
+	private final long[] keys = new long[CACHE_SIZE];
+	private final int[] generations = new int[CACHE_SIZE];
+	private final int[] versions = new int[CACHE_SIZE];
+	@SuppressWarnings("unchecked")
+	private final WeightTable<SoundEffect>[] tables = new WeightTable[CACHE_SIZE];
+	private final boolean[] valid = new boolean[CACHE_SIZE];
+	private int nextSlot = 0;
+
+	public SoundSelector(final List<SoundEffect> sounds) {
+		this(sounds.isEmpty() ? NO_SOUNDS : sounds.toArray(new SoundEffect[sounds.size()]));
+	}
+
+	public SoundSelector(final SoundEffect[] sounds) {
+		this.sounds = sounds;
+
+		// If any of the sounds fall back to regex matching the mask alone
+		// doesn't identify the candidate set.
+		boolean allCompiled = true;
+		for (final SoundEffect sound : sounds)
+			allCompiled &= sound.isCompiled();
+		this.compiled = allCompiled;
+	}
+
+	public static void invalidate() {
+		version++;
+	}
+
+	/*
+	 * All of the sounds that match the conditions, in list order. This is
+	 * the filter behind BiomeRegistry.getSounds().
+	 */
+	static List<SoundEffect> findMatches(final List<SoundEffect> sounds, final long conditions) {
+		final List<SoundEffect> results = new ArrayList<SoundEffect>();
+		for (int i = 0; i < sounds.size(); i++) {
+			final SoundEffect sound = sounds.get(i);
+			if (sound.matches(conditions))
+				results.add(sound);
+		}
+		return results;
+	}
+
+	public boolean isEmpty() {
+		return this.sounds.length == 0;
+	}
+
+	public SoundEffect select(final long conditions, final Random random) {
+		if (this.sounds.length == 0)
+			return null;
+		final WeightTable<SoundEffect> table = getTable(conditions);
+		return table != null ? table.next(random) : null;
+	}
+
+	private WeightTable<SoundEffect> getTable(final long conditions) {
+		final int generation = this.compiled ? 0 : ConditionRegistry.getGeneration();
+		for (int i = 0; i < CACHE_SIZE; i++)
+			if (this.valid[i] && this.keys[i] == conditions && this.generations[i] == generation
+					&& this.versions[i] == version)
+				return this.tables[i];
+
+		final WeightTable<SoundEffect> table = build(conditions);
+		final int slot = this.nextSlot;
+		this.nextSlot = (slot + 1) % CACHE_SIZE;
+		this.keys[slot] = conditions;
+		this.generations[slot] = generation;
+		this.versions[slot] = version;
+		this.tables[slot] = table;
+		this.valid[slot] = true;
+		return table;
+	}
+
+	private WeightTable<SoundEffect> build(final long conditions) {
+		final SoundEffect[] candidates = new SoundEffect[this.sounds.length];
+		final int[] weights = new int[this.sounds.length];
+		int count = 0;
+		for (final SoundEffect s : this.sounds)
+			if (s.weight > 0 && s.matches(conditions)) {
+				candidates[count] = s;
+				weights[count++] = s.weight;
+			}
+		return count == 0 ? null : new WeightTable<SoundEffect>(candidates, weights, count);
+	}
+}
@@ -32,4 +32,8 @@ public class RegistryReloadEvent extends Event {
 
 	}
 
+	public static class Block extends RegistryReloadEvent {
+
+	}
+
 }
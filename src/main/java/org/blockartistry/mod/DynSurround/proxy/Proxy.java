@@ -37,6 +37,7 @@ import net.minecraft.command.ICommandManager;
 import net.minecraft.command.ServerCommandManager;
 import net.minecraft.server.MinecraftServer;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLModIdMappingEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
@@ -61,6 +62,9 @@ public class Proxy {
 		DimensionRegistry.initialize();
 	}
 
+	public void idMapping(final FMLModIdMappingEvent event) {
+	}
+
 	public void serverStarting(final FMLServerStartingEvent event) {
 		final MinecraftServer server = MinecraftServer.getServer();
 		final ICommandManager command = server.getCommandManager();
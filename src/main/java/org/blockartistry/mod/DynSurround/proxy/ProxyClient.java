@@ -30,16 +30,23 @@ import java.util.List;
 import org.blockartistry.mod.DynSurround.ModLog;
 import org.blockartistry.mod.DynSurround.ModOptions;
 import org.blockartistry.mod.DynSurround.client.ClientEffectHandler;
+import org.blockartistry.mod.DynSurround.client.QualityGovernor;
 import org.blockartistry.mod.DynSurround.client.footsteps.game.system.ForgeDictionary;
 import org.blockartistry.mod.DynSurround.client.footsteps.game.user.GenerateBlockReport;
+import org.blockartistry.mod.DynSurround.client.fx.particle.ParticleBudget;
+import org.blockartistry.mod.DynSurround.client.fx.particle.ParticlePool;
 import org.blockartistry.mod.DynSurround.client.hud.GuiHUDHandler;
 import org.blockartistry.mod.DynSurround.client.sound.SoundManager;
+import org.blockartistry.mod.DynSurround.client.storm.WeatherColumnCache;
+import org.blockartistry.mod.DynSurround.commands.CommandProfile;
 import org.blockartistry.mod.DynSurround.data.BlockRegistry;
 import org.blockartistry.mod.DynSurround.data.SoundRegistry;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.audio.SoundHandler;
+import net.minecraftforge.client.ClientCommandHandler;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLModIdMappingEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.relauncher.Side;
@@ -60,10 +67,24 @@ public class ProxyClient extends Proxy {
 		super.init(event);
 		BlockRegistry.initialize();
 		ClientEffectHandler.initialize();
+		WeatherColumnCache.initialize();
+		QualityGovernor.initialize();
+		ParticlePool.initialize();
+		ParticleBudget.initialize();
 		GuiHUDHandler.initialize();
 		SoundRegistry.initialize();
+
+		ClientCommandHandler.instance.registerCommand(new CommandProfile());
 	}
 	
+	@Override
+	public void idMapping(final FMLModIdMappingEvent event) {
+		super.idMapping(event);
+
+		// Block IDs may have changed for the world being loaded
+		BlockRegistry.remap();
+	}
+
 	@Override
 	public void postInit(final FMLPostInitializationEvent event) {
 		super.postInit(event);
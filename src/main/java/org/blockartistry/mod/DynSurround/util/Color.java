@@ -24,10 +24,15 @@
 
 package org.blockartistry.mod.DynSurround.util;
 
+import java.nio.ByteOrder;
+
 import net.minecraft.util.Vec3;
 
 /**
  * Holds an RGB triple. See: http://www.rapidtables.com/web/color/RGB_Color.htm
+ * 
+ * The operations modify the color in place and return it so that a scratch
+ * color can be reused in code that runs every frame.
  */
 public class Color {
 
@@ -51,8 +56,20 @@ public class Color {
 		public Color adjust(final Vec3 adjust, final Color target) {
 			throw new UnsupportedOperationException();
 		}
+
+		@Override
+		public Color add(final Color color, final float scaleFactor) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Color set(final float red, final float green, final float blue) {
+			throw new UnsupportedOperationException();
+		}
 	}
 
+	private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
 	public static final Color RED = new ImmutableColor(255, 0, 0);
 	public static final Color ORANGE = new ImmutableColor(255, 127, 0);
 	public static final Color YELLOW = new ImmutableColor(255, 255, 0);
@@ -94,6 +111,21 @@ public class Color {
 		this.blue = blue;
 	}
 
+	public Color set(final Color color) {
+		return set(color.red, color.green, color.blue);
+	}
+
+	public Color set(final Vec3 vec) {
+		return set((float) vec.xCoord, (float) vec.yCoord, (float) vec.zCoord);
+	}
+
+	public Color set(final float red, final float green, final float blue) {
+		this.red = red;
+		this.green = green;
+		this.blue = blue;
+		return this;
+	}
+
 	public Vec3 toVec3() {
 		return new Vec3(this.red, this.green, this.blue);
 	}
@@ -141,6 +173,17 @@ public class Color {
 		return this;
 	}
 
+	/*
+	 * Adds the color scaled by the factor. Same as add(Color.scale(color,
+	 * scaleFactor)) without the temporary.
+	 */
+	public Color add(final Color color, final float scaleFactor) {
+		this.red += color.red * scaleFactor;
+		this.green += color.green * scaleFactor;
+		this.blue += color.blue * scaleFactor;
+		return this;
+	}
+
 	private static float blend(final float c1, final float c2, final float factor) {
 		return (float) Math.sqrt((1.0F - factor) * c1 * c1 + factor * c2 * c2);
 	}
@@ -183,9 +226,13 @@ public class Color {
 	}
 
 	public int rgb() {
-		final int iRed = (int)(this.red * 255);
-		final int iGreen = (int)(this.green * 255);
-		final int iBlue = (int)(this.blue * 255);
+		return rgb(this.red, this.green, this.blue);
+	}
+
+	public static int rgb(final float red, final float green, final float blue) {
+		final int iRed = (int)(red * 255);
+		final int iGreen = (int)(green * 255);
+		final int iBlue = (int)(blue * 255);
 		return iRed << 16 | iGreen << 8 | iBlue;
 	}
 	
@@ -194,6 +241,24 @@ public class Color {
 		return rgb() | (iAlpha << 24);
 	}
 
+	/*
+	 * Packs the color the same way WorldRenderer.color() does so it can be
+	 * written directly into the int vertex data of a WorldRenderer.
+	 */
+	public int vertexColor(final float alpha) {
+		return vertexColor(rgb(), alpha);
+	}
+
+	public static int vertexColor(final int rgb, final float alpha) {
+		return vertexColor(rgb >> 16 & 255, rgb >> 8 & 255, rgb & 255, (int) (alpha * 255.0F));
+	}
+
+	public static int vertexColor(final int red, final int green, final int blue, final int alpha) {
+		if (LITTLE_ENDIAN)
+			return alpha << 24 | blue << 16 | green << 8 | red;
+		return red << 24 | green << 16 | blue << 8 | alpha;
+	}
+
 	@Override
 	public boolean equals(final Object anObject) {
 		if (anObject == null || !(anObject instanceof Color))
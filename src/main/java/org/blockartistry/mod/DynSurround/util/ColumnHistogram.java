@@ -0,0 +1,174 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.util;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of an integer valued function (biome ID, etc.) sampled over a
+ * square window of columns. The window slides with its center: moving a
+ * column along X or Z samples the new edge and retires the old one, so the
+ * cost is proportional to the distance moved rather than the area.
+ *
+ * The value sampled for each column is remembered so that it is retired
+ * with exactly the value it was counted with, even if the underlying data
+ * changed in the meantime.
+ */
+public final class ColumnHistogram {
+
+	public interface ISampler {
+		/**
+		 * Returns the value for the column, in the range [0, buckets), or a
+		 * negative value if the column should not be counted.
+		 */
+		int sample(final int x, final int z);
+	}
+
+	private final int range;
+	private final int window;
+	private final int[] columns;
+	private final int[] histogram;
+
+	private boolean valid;
+	private int centerX;
+	private int centerZ;
+
+	public ColumnHistogram(final int range, final int buckets) {
+		this.range = range;
+		this.window = range * 2 + 1;
+		this.columns = new int[this.window * this.window];
+		this.histogram = new int[buckets];
+	}
+
+	public int getArea() {
+		return this.window * this.window;
+	}
+
+	public int getBuckets() {
+		return this.histogram.length;
+	}
+
+	public int getCount(final int bucket) {
+		return this.histogram[bucket];
+	}
+
+	public boolean isValid() {
+		return this.valid;
+	}
+
+	public void invalidate() {
+		this.valid = false;
+	}
+
+	private int wrap(final int v) {
+		final int r = v % this.window;
+		return r < 0 ? r + this.window : r;
+	}
+
+	private int slot(final int x, final int z) {
+		return wrap(x) * this.window + wrap(z);
+	}
+
+	private void add(final ISampler sampler, final int x, final int z) {
+		int value = sampler.sample(x, z);
+		if (value >= this.histogram.length)
+			value = -1;
+		this.columns[slot(x, z)] = value;
+		if (value >= 0)
+			this.histogram[value]++;
+	}
+
+	private void remove(final int x, final int z) {
+		final int value = this.columns[slot(x, z)];
+		if (value >= 0)
+			this.histogram[value]--;
+	}
+
+	/**
+	 * Samples the entire window around the specified center.
+	 */
+	public void survey(final ISampler sampler, final int x, final int z) {
+		Arrays.fill(this.histogram, 0);
+		for (int dX = -this.range; dX <= this.range; dX++)
+			for (int dZ = -this.range; dZ <= this.range; dZ++)
+				add(sampler, x + dX, z + dZ);
+		this.centerX = x;
+		this.centerZ = z;
+		this.valid = true;
+	}
+
+	/**
+	 * Samples again the columns of the window that fall within the
+	 * specified area, such as a chunk that has just arrived.
+	 */
+	public void resample(final ISampler sampler, final int minX, final int minZ, final int maxX, final int maxZ) {
+		if (!this.valid)
+			return;
+
+		final int x0 = Math.max(minX, this.centerX - this.range);
+		final int x1 = Math.min(maxX, this.centerX + this.range);
+		final int z0 = Math.max(minZ, this.centerZ - this.range);
+		final int z1 = Math.min(maxZ, this.centerZ + this.range);
+		for (int x = x0; x <= x1; x++)
+			for (int z = z0; z <= z1; z++) {
+				remove(x, z);
+				add(sampler, x, z);
+			}
+	}
+
+	/**
+	 * Moves the window to the specified center. Falls back to a full survey
+	 * if the window isn't valid or the move is too large to be worth
+	 * sliding.
+	 */
+	public void moveTo(final ISampler sampler, final int x, final int z) {
+		if (!this.valid || Math.abs(x - this.centerX) + Math.abs(z - this.centerZ) >= this.window) {
+			survey(sampler, x, z);
+			return;
+		}
+
+		// X first along the old Z, then Z along the new X
+		while (this.centerX != x) {
+			final int step = this.centerX < x ? 1 : -1;
+			final int retire = this.centerX - step * this.range;
+			final int admit = this.centerX + step * (this.range + 1);
+			for (int dZ = -this.range; dZ <= this.range; dZ++) {
+				remove(retire, this.centerZ + dZ);
+				add(sampler, admit, this.centerZ + dZ);
+			}
+			this.centerX += step;
+		}
+
+		while (this.centerZ != z) {
+			final int step = this.centerZ < z ? 1 : -1;
+			final int retire = this.centerZ - step * this.range;
+			final int admit = this.centerZ + step * (this.range + 1);
+			for (int dX = -this.range; dX <= this.range; dX++) {
+				remove(x + dX, retire);
+				add(sampler, x + dX, admit);
+			}
+			this.centerZ += step;
+		}
+	}
+}
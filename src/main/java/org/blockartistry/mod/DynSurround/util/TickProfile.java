@@ -0,0 +1,200 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Rolling timing window for a single unit of per tick work. Samples are kept
+ * in a ring buffer so the percentiles reflect the last WINDOW ticks. Where the
+ * JVM exposes per thread allocation counters the bytes allocated during the
+ * sample are tracked as well.
+ */
+public final class TickProfile {
+
+	// About 10 seconds worth of client ticks
+	public static final int WINDOW = 200;
+
+	private static final com.sun.management.ThreadMXBean ALLOCATIONS;
+
+	static {
+		com.sun.management.ThreadMXBean bean = null;
+		try {
+			final java.lang.management.ThreadMXBean b = ManagementFactory.getThreadMXBean();
+			if (b instanceof com.sun.management.ThreadMXBean) {
+				bean = (com.sun.management.ThreadMXBean) b;
+				if (!bean.isThreadAllocatedMemorySupported())
+					bean = null;
+				else if (!bean.isThreadAllocatedMemoryEnabled())
+					bean.setThreadAllocatedMemoryEnabled(true);
+			}
+		} catch (final Throwable t) {
+			bean = null;
+		}
+		ALLOCATIONS = bean;
+	}
+
+	public static boolean canTrackAllocations() {
+		return ALLOCATIONS != null;
+	}
+
+	private final String name;
+	private final long[] nanos = new long[WINDOW];
+	private final long[] bytes = new long[WINDOW];
+	private int index;
+	private int count;
+	private long average;
+
+	private boolean trackAllocations;
+	private long startNanos;
+	private long startBytes;
+
+	public TickProfile(final String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public void setTrackAllocations(final boolean flag) {
+		this.trackAllocations = flag && ALLOCATIONS != null;
+	}
+
+	public boolean isTrackingAllocations() {
+		return this.trackAllocations;
+	}
+
+	public void begin() {
+		if (this.trackAllocations)
+			this.startBytes = ALLOCATIONS.getThreadAllocatedBytes(Thread.currentThread().getId());
+		this.startNanos = System.nanoTime();
+	}
+
+	public long end() {
+		final long elapsed = System.nanoTime() - this.startNanos;
+		this.nanos[this.index] = elapsed;
+		if (this.trackAllocations)
+			this.bytes[this.index] = ALLOCATIONS.getThreadAllocatedBytes(Thread.currentThread().getId())
+					- this.startBytes;
+		else
+			this.bytes[this.index] = 0;
+		if (this.count == 0)
+			this.average = elapsed;
+		else
+			this.average += (elapsed - this.average) >> 3;
+		if (++this.index == WINDOW)
+			this.index = 0;
+		if (this.count < WINDOW)
+			this.count++;
+		return elapsed;
+	}
+
+	public void reset() {
+		this.index = 0;
+		this.count = 0;
+		this.average = 0;
+	}
+
+	public int getSampleCount() {
+		return this.count;
+	}
+
+	/**
+	 * Exponential moving average of the recent samples. Cheap enough to be
+	 * consulted every tick.
+	 */
+	public long getAverage() {
+		return this.average;
+	}
+
+	public long getLast() {
+		if (this.count == 0)
+			return 0;
+		return this.nanos[(this.index == 0 ? WINDOW : this.index) - 1];
+	}
+
+	public Snapshot snapshot() {
+		final long[] sorted = Arrays.copyOf(this.nanos, this.count);
+		Arrays.sort(sorted);
+		long totalBytes = 0;
+		for (int i = 0; i < this.count; i++)
+			totalBytes += this.bytes[i];
+		return new Snapshot(this, sorted, totalBytes);
+	}
+
+	/**
+	 * Point in time view of a profile. Times are reported in nanoseconds.
+	 */
+	public static final class Snapshot {
+
+		public final String name;
+		public final int samples;
+		public final long p50;
+		public final long p99;
+		public final long max;
+		public final long mean;
+		public final long bytesPerTick;
+		public final boolean hasAllocations;
+
+		private Snapshot(final TickProfile profile, final long[] sorted, final long totalBytes) {
+			this.name = profile.name;
+			this.samples = sorted.length;
+			this.hasAllocations = profile.trackAllocations;
+			if (this.samples == 0) {
+				this.p50 = this.p99 = this.max = this.mean = this.bytesPerTick = 0;
+			} else {
+				long total = 0;
+				for (final long l : sorted)
+					total += l;
+				this.p50 = percentile(sorted, 50);
+				this.p99 = percentile(sorted, 99);
+				this.max = sorted[this.samples - 1];
+				this.mean = total / this.samples;
+				this.bytesPerTick = totalBytes / this.samples;
+			}
+		}
+
+		private static long percentile(final long[] sorted, final int p) {
+			final int idx = (sorted.length * p + 99) / 100 - 1;
+			return sorted[idx < 0 ? 0 : idx];
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder();
+			builder.append(this.name).append(": p50 ").append(millis(this.p50));
+			builder.append(" p99 ").append(millis(this.p99));
+			builder.append(" max ").append(millis(this.max)).append(" ms");
+			if (this.hasAllocations)
+				builder.append("; ").append(this.bytesPerTick / 1024).append(" KB/t");
+			return builder.toString();
+		}
+
+		private static String millis(final long nanos) {
+			return String.format("%.3f", nanos / 1000000.0D);
+		}
+	}
+}
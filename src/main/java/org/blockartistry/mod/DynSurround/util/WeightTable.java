@@ -0,0 +1,103 @@
+/* This file is part of Dynamic Surroundings, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) OreCruncher
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package org.blockartistry.mod.DynSurround.util;
+
+import java.util.Random;
+
+/**
+ * Weighted random selection using Vose's alias method. Construction is O(n);
+ * each selection is O(1) with no allocation.
+ *
+ * http://www.keithschwarz.com/darts-dice-coins/
+ */
+public final class WeightTable<T> {
+
+	private final Object[] items;
+	private final float[] probability;
+	private final int[] alias;
+
+	public WeightTable(final T[] items, final int[] weights, final int count) {
+		if (count <= 0)
+			throw new IllegalArgumentException("WeightTable requires at least one item");
+
+		this.items = new Object[count];
+		this.probability = new float[count];
+		this.alias = new int[count];
+
+		long total = 0;
+		for (int i = 0; i < count; i++) {
+			this.items[i] = items[i];
+			total += weights[i];
+		}
+
+		// Scale the weights so that the average is 1 and split them into
+		// the under and over full work lists.
+		final float[] scaled = new float[count];
+		final int[] small = new int[count];
+		final int[] large = new int[count];
+		int smallCount = 0;
+		int largeCount = 0;
+
+		for (int i = 0; i < count; i++) {
+			scaled[i] = (float) ((double) weights[i] * count / total);
+			if (scaled[i] < 1.0F)
+				small[smallCount++] = i;
+			else
+				large[largeCount++] = i;
+		}
+
+		while (smallCount > 0 && largeCount > 0) {
+			final int less = small[--smallCount];
+			final int more = large[--largeCount];
+
+			this.probability[less] = scaled[less];
+			this.alias[less] = more;
+
+			scaled[more] = (scaled[more] + scaled[less]) - 1.0F;
+			if (scaled[more] < 1.0F)
+				small[smallCount++] = more;
+			else
+				large[largeCount++] = more;
+		}
+
+		// Whatever is left over is full, barring rounding error
+		while (largeCount > 0)
+			this.probability[large[--largeCount]] = 1.0F;
+		while (smallCount > 0)
+			this.probability[small[--smallCount]] = 1.0F;
+	}
+
+	public int size() {
+		return this.items.length;
+	}
+
+	@SuppressWarnings("unchecked")
+	public T next(final Random random) {
+		if (this.items.length == 1)
+			return (T) this.items[0];
+		final int column = random.nextInt(this.items.length);
+		final boolean heads = random.nextFloat() < this.probability[column];
+		return (T) this.items[heads ? column : this.alias[column]];
+	}
+}